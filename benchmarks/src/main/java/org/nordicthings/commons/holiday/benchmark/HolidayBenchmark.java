@@ -0,0 +1,67 @@
+package org.nordicthings.commons.holiday.benchmark;
+
+import org.nordicthings.commons.holiday.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Holiday#getDate(int)} for every implementation of {@link AbstractHoliday}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HolidayBenchmark {
+
+    private static final int FIRST_YEAR = 1995;
+    private static final int LAST_YEAR = 2100;
+
+    @Param({"FixedHoliday", "EasterSunday", "GoodFriday", "EasterMonday", "AscensionOfChrist", "WhitSunday",
+            "WhitMonday", "CorpusChristi", "DayOfPrayerAndRepentance"})
+    public String holidayType;
+
+    private Holiday holiday;
+    private int year;
+
+    @Setup
+    public void setUp() {
+        holiday = createHoliday(holidayType);
+        year = FIRST_YEAR;
+    }
+
+    @Benchmark
+    public LocalDate getDate() {
+        year = year == LAST_YEAR ? FIRST_YEAR : year + 1;
+        return holiday.getDate(year);
+    }
+
+    private static Holiday createHoliday(String type) {
+        switch (type) {
+            case "FixedHoliday":
+                return FixedHoliday.of(3, 10, "Tag der deutschen Einheit");
+            case "EasterSunday":
+                return EasterSunday.standard();
+            case "GoodFriday":
+                return GoodFriday.standard();
+            case "EasterMonday":
+                return EasterMonday.standard();
+            case "AscensionOfChrist":
+                return AscensionOfChrist.standard();
+            case "WhitSunday":
+                return WhitSunday.standard();
+            case "WhitMonday":
+                return WhitMonday.standard();
+            case "CorpusChristi":
+                return CorpusChristi.standard();
+            case "DayOfPrayerAndRepentance":
+                return DayOfPrayerAndRepentance.standard();
+            default:
+                throw new IllegalArgumentException("Unknown holiday type " + type);
+        }
+    }
+
+}
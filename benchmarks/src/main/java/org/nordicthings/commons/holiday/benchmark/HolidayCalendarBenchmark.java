@@ -0,0 +1,159 @@
+package org.nordicthings.commons.holiday.benchmark;
+
+import org.nordicthings.commons.holiday.AreaSelector;
+import org.nordicthings.commons.holiday.ConcreteHoliday;
+import org.nordicthings.commons.holiday.HolidayCalendar;
+import org.nordicthings.commons.holiday.HolidayCalendarBatch;
+import org.nordicthings.commons.holiday.HolidayCalendarCache;
+import org.nordicthings.commons.holiday.HolidayCalendarReader;
+import org.nordicthings.commons.holiday.HolidayCalendarStore;
+import org.nordicthings.commons.holiday.HolidayCalendarWriter;
+import org.nordicthings.commons.holiday.german.GermanFederalState;
+import org.nordicthings.commons.holiday.german.SimpleGermanHolidayCalendarConfigurer;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the query methods of {@link HolidayCalendar} and the creation of a fully configured german calendar.
+ * The queried dates cycle through the whole year so that holidays, weekends and working days are all hit.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HolidayCalendarBenchmark {
+
+    private static final int YEAR = 2021;
+    private static final AreaSelector SELECTOR = AreaSelector.of(GermanFederalState.BAYERN, GermanFederalState.BERLIN);
+
+    private HolidayCalendar calendar;
+    private byte[] serialized;
+    private HolidayCalendarStore.Region storedRegion;
+    private LocalDate[] dates;
+    private int cursor;
+
+    @Setup
+    public void setUp() throws IOException {
+        calendar = HolidayCalendar.builder()
+                .forYear(YEAR)
+                .configurer(new SimpleGermanHolidayCalendarConfigurer())
+                .build();
+        serialized = HolidayCalendarWriter.toBytes(calendar);
+        ByteArrayOutputStream store = new ByteArrayOutputStream();
+        HolidayCalendarStore.writer(YEAR, YEAR)
+                .region("DE-SN", new SimpleGermanHolidayCalendarConfigurer(), GermanFederalState.SACHSEN)
+                .write(store);
+        ByteBuffer mapped = ByteBuffer.allocateDirect(store.size());
+        mapped.put(store.toByteArray());
+        storedRegion = HolidayCalendarStore.open(mapped).getRegion("DE-SN");
+        LocalDate start = LocalDate.of(YEAR, 1, 1);
+        dates = new LocalDate[start.lengthOfYear()];
+        for (int i = 0; i < dates.length; i++) {
+            dates[i] = start.plusDays(i);
+        }
+    }
+
+    private LocalDate nextDate() {
+        LocalDate date = dates[cursor];
+        cursor = cursor + 1 == dates.length ? 0 : cursor + 1;
+        return date;
+    }
+
+    @Benchmark
+    public boolean isHoliday() {
+        return calendar.isHoliday(nextDate());
+    }
+
+    @Benchmark
+    public boolean isHolidayInArea() {
+        return calendar.isHoliday(nextDate(), GermanFederalState.BAYERN);
+    }
+
+    @Benchmark
+    public boolean isWorkingDay() {
+        return calendar.isWorkingDay(nextDate());
+    }
+
+    @Benchmark
+    public boolean isWorkingDayByEpochDay() {
+        return calendar.isWorkingDay(nextDate().toEpochDay(), GermanFederalState.BAYERN);
+    }
+
+    @Benchmark
+    public boolean isWorkingDayInAreas() {
+        return calendar.isWorkingDay(nextDate(), GermanFederalState.BAYERN, GermanFederalState.BERLIN);
+    }
+
+    @Benchmark
+    public boolean isWorkingDayWithSelector() {
+        return calendar.isWorkingDay(nextDate(), SELECTOR);
+    }
+
+    @Benchmark
+    public boolean isWorkingDayInStore() {
+        return storedRegion.isWorkingDay(nextDate().toEpochDay());
+    }
+
+    @Benchmark
+    public Optional<LocalDate> getNextWorkingDay() {
+        return calendar.getNextWorkingDay(nextDate(), GermanFederalState.SACHSEN);
+    }
+
+    @Benchmark
+    public Optional<LocalDate> plusWorkingDays() {
+        return calendar.plusWorkingDays(nextDate(), 10, GermanFederalState.SACHSEN);
+    }
+
+    @Benchmark
+    public int countWorkingDays() {
+        return calendar.countWorkingDays(dates[0], nextDate(), GermanFederalState.SACHSEN);
+    }
+
+    @Benchmark
+    public List<ConcreteHoliday> getHolidaysOfMonth() {
+        LocalDate date = nextDate();
+        return calendar.getHolidaysBetween(date.withDayOfMonth(1), date.withDayOfMonth(date.lengthOfMonth()), GermanFederalState.SACHSEN);
+    }
+
+    @Benchmark
+    public boolean[] areWorkingDays() {
+        return calendar.areWorkingDays(dates, GermanFederalState.SACHSEN);
+    }
+
+    @Benchmark
+    public HolidayCalendar build() {
+        return HolidayCalendar.builder()
+                .forYear(YEAR)
+                .configurer(new SimpleGermanHolidayCalendarConfigurer())
+                .build();
+    }
+
+    @Benchmark
+    public HolidayCalendar read() {
+        return HolidayCalendarReader.of(GermanFederalState.values()).read(ByteBuffer.wrap(serialized));
+    }
+
+    @Benchmark
+    public HolidayCalendar buildCached() {
+        return HolidayCalendarCache.shared().get(new SimpleGermanHolidayCalendarConfigurer(), YEAR);
+    }
+
+    @Benchmark
+    public HolidayCalendarBatch buildBatch() {
+        return HolidayCalendarBatch.builder()
+                .forYears(YEAR, YEAR + 49)
+                .configurer(new SimpleGermanHolidayCalendarConfigurer())
+                .areas(GermanFederalState.values())
+                .build();
+    }
+
+}
@@ -1,18 +1,19 @@
 package org.nordicthings.commons.holiday;
 
 import java.time.LocalDate;
-import java.util.Arrays;
-import java.util.HashSet;
 import java.util.Set;
 
 /**
  * Abstract implementation of the {@link Holiday}-interface.
+ * The administrative areas are held in a representation chosen by their number and type, so that matching them
+ * neither allocates nor hashes in the common cases, and additionally as bitmask, so that they can be matched against
+ * an {@link AreaSelector} by a bitwise AND.
  */
 public abstract class AbstractHoliday implements Holiday {
 
     private String key = this.getClass().getCanonicalName();
     private String name = this.getClass().getSimpleName();
-    private final Set<AdministrativeArea> administrativeAreas = new HashSet<>();
+    private final AreaMembership administrativeAreas;
 
     /**
      * @param key the unique key of the holiday. If {@code null} is passed, the canonical classname is used as key.
@@ -26,9 +27,7 @@ public abstract class AbstractHoliday implements Holiday {
         if (name != null) {
             this.name = name;
         }
-        if (administrativeAreas != null) {
-            this.administrativeAreas.addAll(Arrays.asList(administrativeAreas));
-        }
+        this.administrativeAreas = AreaMembership.of(administrativeAreas);
     }
 
     @Override
@@ -60,12 +59,21 @@ public abstract class AbstractHoliday implements Holiday {
      */
     @Override
     public boolean isHolidayIn(AdministrativeArea... areas) {
-        return isNationWide() || containsAny(administrativeAreas, areas);
+        return isNationWide() || administrativeAreas.containsAny(areas);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The default-implementation matches the areas of the holiday by a bitwise AND.
+     */
+    @Override
+    public boolean isHolidayIn(AreaSelector selector) {
+        return isNationWide() || administrativeAreas.intersects(selector);
     }
 
     @Override
     public Set<AdministrativeArea> getAdministrativeAreas() {
-        return administrativeAreas;
+        return administrativeAreas.asSet();
     }
 
     /**
@@ -96,10 +104,4 @@ public abstract class AbstractHoliday implements Holiday {
         return LocalDate.MIN.getYear();
     }
 
-    private boolean containsAny(Set<AdministrativeArea> set, AdministrativeArea... areas) {
-        Set<AdministrativeArea> checkedSet = new HashSet<>(set);
-        checkedSet.retainAll(Arrays.asList(areas));
-        return !checkedSet.isEmpty();
-    }
-
 }
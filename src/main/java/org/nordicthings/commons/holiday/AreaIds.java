@@ -0,0 +1,134 @@
+package org.nordicthings.commons.holiday;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Assigns a small number to every administrative area which is used by a holiday or an {@link AreaSelector}, so that
+ * sets of areas can be represented as bitmasks. Areas are compared by {@link Object#equals(Object)}.
+ * <p>
+ * The number of an area is held by an {@link Id}, which every owner of a mask keeps together with the mask. Areas are
+ * registered with weak keys; once no mask of an area is in use anymore, its entry is dropped and its number is reused,
+ * so that areas created dynamically, e.g. by the resolvers of definition files, do not accumulate.
+ */
+final class AreaIds {
+
+    private static final Map<AdministrativeArea, IdReference> IDS = new WeakHashMap<>();
+    private static final ReferenceQueue<Id> RELEASED = new ReferenceQueue<>();
+    private static final BitSet FREE = new BitSet();
+    private static int next;
+
+    private AreaIds() {}
+
+    /**
+     * The number of an administrative area, which stays reserved as long as the Id is referenced.
+     */
+    static final class Id {
+
+        private final int number;
+        // keeps the weak key of the registry alive as long as the number is in use
+        private final AdministrativeArea area;
+
+        private Id(int number, AdministrativeArea area) {
+            this.number = number;
+            this.area = area;
+        }
+
+        int getNumber() {
+            return number;
+        }
+    }
+
+    private static final class IdReference extends WeakReference<Id> {
+
+        private final int number;
+
+        private IdReference(Id id) {
+            super(id, RELEASED);
+            this.number = id.number;
+        }
+    }
+
+    /**
+     * @param area an administrative area
+     * @return the Id of the area, which is assigned if the area is not known yet
+     */
+    static synchronized Id register(AdministrativeArea area) {
+        release();
+        IdReference reference = IDS.get(area);
+        Id id = reference == null ? null : reference.get();
+        if (id == null) {
+            int number = FREE.isEmpty() ? next++ : FREE.nextSetBit(0);
+            FREE.clear(number);
+            id = new Id(number, area);
+            IDS.put(area, new IdReference(id));
+        }
+        return id;
+    }
+
+    /**
+     * @param areas some administrative areas
+     * @return the Ids of the given areas, which must be kept as long as a mask created from them is in use
+     */
+    static Id[] register(Iterable<? extends AdministrativeArea> areas) {
+        List<Id> ids = new ArrayList<>();
+        for (AdministrativeArea area : areas) {
+            ids.add(register(area));
+        }
+        return ids.toArray(new Id[0]);
+    }
+
+    /**
+     * @return the number of areas whose numbers are currently reserved
+     */
+    static synchronized int size() {
+        release();
+        return next - FREE.cardinality();
+    }
+
+    private static void release() {
+        IdReference reference;
+        while ((reference = (IdReference) RELEASED.poll()) != null) {
+            FREE.set(reference.number);
+        }
+    }
+
+    /**
+     * @param ids the Ids of some areas
+     * @return a bitmask in which the bits of the numbers of the given Ids are set
+     */
+    static long[] toMask(Id... ids) {
+        long[] mask = new long[0];
+        for (Id id : ids) {
+            int number = id.number;
+            if (number >>> 6 >= mask.length) {
+                long[] grown = new long[(number >>> 6) + 1];
+                System.arraycopy(mask, 0, grown, 0, mask.length);
+                mask = grown;
+            }
+            mask[number >>> 6] |= 1L << number;
+        }
+        return mask;
+    }
+
+    /**
+     * @param mask a bitmask created by {@link #toMask(Id...)}
+     * @param other another bitmask created by {@link #toMask(Id...)}
+     * @return true: both masks have at least one bit in common
+     */
+    static boolean intersects(long[] mask, long[] other) {
+        int words = Math.min(mask.length, other.length);
+        for (int i = 0; i < words; i++) {
+            if ((mask[i] & other[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
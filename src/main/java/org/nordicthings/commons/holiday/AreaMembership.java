@@ -0,0 +1,194 @@
+package org.nordicthings.commons.holiday;
+
+import java.util.*;
+
+/**
+ * Immutable set of the administrative areas of a holiday, whose representation is chosen by the number and the type
+ * of the areas when the holiday is created. Testing whether one of several areas is contained does not allocate and
+ * stops at the first hit: a single area is compared directly, enum constants of the same type are looked up in an
+ * {@link EnumSet}, a few other areas are scanned linearly and many other areas are looked up in a hash set. All
+ * representations additionally hold the bitmask of {@link AreaIds}, so that they can be matched against an
+ * {@link AreaSelector} by a bitwise AND.
+ */
+abstract class AreaMembership {
+
+    /**
+     * Up to this number of areas which are not enum constants of the same type are scanned linearly.
+     */
+    static final int SMALL_SIZE = 4;
+
+    static final AreaMembership EMPTY = new Empty();
+
+    private final Set<AdministrativeArea> areas;
+    // keeps the numbers of the areas in the mask reserved
+    private final AreaIds.Id[] ids;
+    private final long[] mask;
+
+    private AreaMembership(Set<AdministrativeArea> areas) {
+        this.areas = Collections.unmodifiableSet(areas);
+        this.ids = AreaIds.register(areas);
+        this.mask = AreaIds.toMask(ids);
+    }
+
+    /**
+     * @param areas the administrative areas, may be {@code null} or contain duplicates
+     * @return the representation fitting the given areas
+     */
+    static AreaMembership of(AdministrativeArea... areas) {
+        if (areas == null || areas.length == 0) {
+            return EMPTY;
+        }
+        Set<AdministrativeArea> distinct = new LinkedHashSet<>();
+        for (AdministrativeArea area : areas) {
+            if (area == null) {
+                throw new IllegalArgumentException("The administrative areas of a holiday must not contain an area of null");
+            }
+            distinct.add(area);
+        }
+        if (distinct.size() == 1) {
+            return new Single(distinct.iterator().next());
+        }
+        Class<?> enumType = enumType(distinct);
+        if (enumType != null) {
+            return new OfEnum(distinct, enumType);
+        }
+        return distinct.size() <= SMALL_SIZE ? new Small(distinct) : new Hashed(distinct);
+    }
+
+    private static Class<?> enumType(Set<AdministrativeArea> areas) {
+        Class<?> type = null;
+        for (AdministrativeArea area : areas) {
+            if (!(area instanceof Enum)) {
+                return null;
+            }
+            Class<?> declaringClass = ((Enum<?>) area).getDeclaringClass();
+            if (type != null && type != declaringClass) {
+                return null;
+            }
+            type = declaringClass;
+        }
+        return type;
+    }
+
+    /**
+     * @return the areas as unmodifiable set.
+     */
+    final Set<AdministrativeArea> asSet() {
+        return areas;
+    }
+
+    /**
+     * @return true: there is no area.
+     */
+    final boolean isEmpty() {
+        return areas.isEmpty();
+    }
+
+    /**
+     * @param selector the selected areas
+     * @return true: at least one of the selected areas is contained
+     */
+    final boolean intersects(AreaSelector selector) {
+        return selector.intersects(mask);
+    }
+
+    /**
+     * @param others some administrative areas, may be {@code null} or contain {@code null}
+     * @return true: at least one of the given areas is contained
+     */
+    final boolean containsAny(AdministrativeArea... others) {
+        if (others == null) {
+            return false;
+        }
+        for (AdministrativeArea other : others) {
+            if (other != null && contains(other)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param area an administrative area, not {@code null}
+     * @return true: the given area is contained
+     */
+    abstract boolean contains(AdministrativeArea area);
+
+    private static final class Empty extends AreaMembership {
+
+        private Empty() {
+            super(Collections.emptySet());
+        }
+
+        @Override
+        boolean contains(AdministrativeArea area) {
+            return false;
+        }
+    }
+
+    private static final class Single extends AreaMembership {
+
+        private final AdministrativeArea area;
+
+        private Single(AdministrativeArea area) {
+            super(Collections.singleton(area));
+            this.area = area;
+        }
+
+        @Override
+        boolean contains(AdministrativeArea other) {
+            return area == other || area.equals(other);
+        }
+    }
+
+    private static final class Small extends AreaMembership {
+
+        private final AdministrativeArea[] elements;
+
+        private Small(Set<AdministrativeArea> areas) {
+            super(areas);
+            this.elements = areas.toArray(new AdministrativeArea[0]);
+        }
+
+        @Override
+        boolean contains(AdministrativeArea other) {
+            for (AdministrativeArea element : elements) {
+                if (element == other || element.equals(other)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static final class OfEnum extends AreaMembership {
+
+        private final Set<?> elements;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private OfEnum(Set<AdministrativeArea> areas, Class<?> enumType) {
+            super(areas);
+            EnumSet elements = EnumSet.noneOf((Class) enumType);
+            elements.addAll(areas);
+            this.elements = elements;
+        }
+
+        @Override
+        boolean contains(AdministrativeArea other) {
+            return elements.contains(other);
+        }
+    }
+
+    private static final class Hashed extends AreaMembership {
+
+        private Hashed(Set<AdministrativeArea> areas) {
+            super(areas);
+        }
+
+        @Override
+        boolean contains(AdministrativeArea other) {
+            return asSet().contains(other);
+        }
+    }
+
+}
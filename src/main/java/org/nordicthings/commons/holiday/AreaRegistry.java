@@ -0,0 +1,155 @@
+package org.nordicthings.commons.holiday;
+
+import java.util.*;
+
+/**
+ * An immutable registry of administrative areas, which looks up the areas by their ISO code and by their name in
+ * constant time, e.g. to resolve the area codes of inbound messages. Lists of ISO codes are resolved into an
+ * {@link AreaSelector} in one call, which should be kept by the caller and passed to the queries of a calendar.
+ * <p>
+ * A registry can be used wherever areas are resolved by a function, e.g. {@code HolidayCalendarReader.of(registry::getByISO)}.
+ */
+public final class AreaRegistry {
+
+    private final Map<String, AdministrativeArea> areasByIso;
+    private final Map<String, AdministrativeArea> areasByName;
+
+    private AreaRegistry(Map<String, AdministrativeArea> areasByIso, Map<String, AdministrativeArea> areasByName) {
+        this.areasByIso = areasByIso;
+        this.areasByName = areasByName;
+    }
+
+    /**
+     * @param areas the areas to be registered, whose ISO codes and names must be unique
+     * @return a new instance of AreaRegistry
+     */
+    public static AreaRegistry of(AdministrativeArea... areas) {
+        if (areas == null) {
+            throw new IllegalArgumentException("An area registry requires areas");
+        }
+        return of(Arrays.asList(areas));
+    }
+
+    /**
+     * @param areaType an enum of administrative areas, e.g. {@code GermanFederalState.class}
+     * @param <E> the type of the enum
+     * @return a new instance of AreaRegistry holding all constants of the enum
+     */
+    public static <E extends Enum<E> & AdministrativeArea> AreaRegistry of(Class<E> areaType) {
+        if (areaType == null) {
+            throw new IllegalArgumentException("An area registry requires an enum of areas");
+        }
+        return of(EnumSet.allOf(areaType));
+    }
+
+    /**
+     * @param areas the areas to be registered, whose ISO codes and names must be unique
+     * @return a new instance of AreaRegistry
+     */
+    public static AreaRegistry of(Collection<? extends AdministrativeArea> areas) {
+        if (areas == null) {
+            throw new IllegalArgumentException("An area registry requires areas");
+        }
+        Map<String, AdministrativeArea> areasByIso = new LinkedHashMap<>();
+        Map<String, AdministrativeArea> areasByName = new HashMap<>();
+        for (AdministrativeArea area : areas) {
+            if (area == null || area.getISO() == null) {
+                throw new IllegalArgumentException("An area registry must not contain an area or an ISO code of null");
+            }
+            AdministrativeArea registered = areasByIso.putIfAbsent(area.getISO(), area);
+            if (registered != null && !registered.equals(area)) {
+                throw new IllegalArgumentException("The ISO code " + area.getISO() + " is used by several areas");
+            }
+            if (area.getName() != null) {
+                registered = areasByName.putIfAbsent(area.getName(), area);
+                if (registered != null && !registered.equals(area)) {
+                    throw new IllegalArgumentException("The name " + area.getName() + " is used by several areas");
+                }
+            }
+        }
+        return new AreaRegistry(areasByIso, areasByName);
+    }
+
+    /**
+     * @return the registered areas in the order they were registered.
+     */
+    public Collection<AdministrativeArea> getAreas() {
+        return Collections.unmodifiableCollection(areasByIso.values());
+    }
+
+    /**
+     * @param iso the ISO code of an area
+     * @return the area with the given ISO code or {@code null} if there is none
+     */
+    public AdministrativeArea getByISO(String iso) {
+        return iso == null ? null : areasByIso.get(iso);
+    }
+
+    /**
+     * @param name the name of an area
+     * @return the area with the given name or {@code null} if there is none
+     */
+    public AdministrativeArea getByName(String name) {
+        return name == null ? null : areasByName.get(name);
+    }
+
+    /**
+     * @param isoCodes the ISO codes of registered areas
+     * @return a selector of the areas with the given ISO codes
+     */
+    public AreaSelector selector(String... isoCodes) {
+        if (isoCodes == null) {
+            throw new IllegalArgumentException("Unable to select the areas of ISO codes of null");
+        }
+        return selector(Arrays.asList(isoCodes));
+    }
+
+    /**
+     * @param isoCodes the ISO codes of registered areas
+     * @return a selector of the areas with the given ISO codes
+     */
+    public AreaSelector selector(Collection<String> isoCodes) {
+        if (isoCodes == null) {
+            throw new IllegalArgumentException("Unable to select the areas of ISO codes of null");
+        }
+        List<AdministrativeArea> areas = new ArrayList<>(isoCodes.size());
+        for (String iso : isoCodes) {
+            areas.add(resolve(iso));
+        }
+        return AreaSelector.of(areas);
+    }
+
+    /**
+     * @param isoCodes the ISO codes of registered areas separated by commas, e.g. {@code "DE-BY, DE-BE"}. Blanks
+     *                 around the codes are ignored.
+     * @return a selector of the areas with the given ISO codes, which selects no area for an empty list
+     */
+    public AreaSelector parseSelector(String isoCodes) {
+        if (isoCodes == null) {
+            throw new IllegalArgumentException("Unable to select the areas of ISO codes of null");
+        }
+        List<AdministrativeArea> areas = new ArrayList<>();
+        int start = 0;
+        while (start <= isoCodes.length()) {
+            int end = isoCodes.indexOf(',', start);
+            if (end < 0) {
+                end = isoCodes.length();
+            }
+            String iso = isoCodes.substring(start, end).trim();
+            if (!iso.isEmpty() || end < isoCodes.length() || !areas.isEmpty()) {
+                areas.add(resolve(iso));
+            }
+            start = end + 1;
+        }
+        return AreaSelector.of(areas);
+    }
+
+    private AdministrativeArea resolve(String iso) {
+        AdministrativeArea area = getByISO(iso);
+        if (area == null) {
+            throw new IllegalArgumentException("The area registry does not contain the ISO code " + iso);
+        }
+        return area;
+    }
+
+}
@@ -0,0 +1,113 @@
+package org.nordicthings.commons.holiday;
+
+import java.util.*;
+
+/**
+ * A precompiled, immutable set of administrative areas. A selector is created once and passed to the queries of a
+ * {@link HolidayCalendar} or to {@link Holiday#isHolidayIn(AreaSelector)} instead of the areas themselves, so that
+ * matching the areas of a holiday becomes a bitwise AND and the calendar can reuse the tables compiled for the
+ * selector. Selectors with the same areas are equal.
+ */
+public final class AreaSelector {
+
+    private static final AreaSelector NATIONWIDE = new AreaSelector(Collections.emptySet());
+
+    private final Set<AdministrativeArea> areas;
+    // keeps the numbers of the areas in the mask reserved
+    private final AreaIds.Id[] ids;
+    private final long[] mask;
+    private final int hashCode;
+
+    private AreaSelector(Set<AdministrativeArea> areas) {
+        this.areas = Collections.unmodifiableSet(areas);
+        this.ids = AreaIds.register(areas);
+        this.mask = AreaIds.toMask(ids);
+        this.hashCode = Arrays.hashCode(mask);
+    }
+
+    /**
+     * @return a selector without any areas, which only matches nationwide holidays.
+     */
+    public static AreaSelector nationwide() {
+        return NATIONWIDE;
+    }
+
+    /**
+     * @param areas the administrative areas to be selected
+     * @return a selector which matches nationwide holidays and the holidays of the given areas.
+     */
+    public static AreaSelector of(AdministrativeArea... areas) {
+        return areas == null ? NATIONWIDE : of(Arrays.asList(areas));
+    }
+
+    /**
+     * @param areas the administrative areas to be selected
+     * @return a selector which matches nationwide holidays and the holidays of the given areas.
+     */
+    public static AreaSelector of(Collection<? extends AdministrativeArea> areas) {
+        if (areas == null || areas.isEmpty()) {
+            return NATIONWIDE;
+        }
+        Set<AdministrativeArea> distinct = new LinkedHashSet<>();
+        for (AdministrativeArea area : areas) {
+            if (area == null) {
+                throw new IllegalArgumentException("An area selector must not contain an area of null");
+            }
+            distinct.add(area);
+        }
+        return new AreaSelector(distinct);
+    }
+
+    /**
+     * @return the selected areas.
+     */
+    public Set<AdministrativeArea> getAreas() {
+        return areas;
+    }
+
+    /**
+     * @return true: no area is selected.
+     */
+    public boolean isEmpty() {
+        return areas.isEmpty();
+    }
+
+    /**
+     * @param area an administrative area
+     * @return true: the given area is selected.
+     */
+    public boolean contains(AdministrativeArea area) {
+        return areas.contains(area);
+    }
+
+    /**
+     * @param areaMask a mask created by {@link AreaIds#toMask(AreaIds.Id...)}
+     * @return true: at least one of the areas of the mask is selected.
+     */
+    boolean intersects(long[] areaMask) {
+        return AreaIds.intersects(mask, areaMask);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof AreaSelector && Arrays.equals(mask, ((AreaSelector) o).mask);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "AreaSelector[", "]");
+        for (AdministrativeArea area : areas) {
+            joiner.add(area.getISO());
+        }
+        return joiner.toString();
+    }
+
+}
@@ -1,16 +1,12 @@
 package org.nordicthings.commons.holiday;
 
-import java.time.LocalDate;
-
 /**
  * Ascension of Christ is 39 days after Easter Sunday.
  */
-public class AscensionOfChrist extends AbstractHoliday {
-
-    private final Holiday easterSunday = EasterSunday.ofSpecificAreas();
+public class AscensionOfChrist extends EasterRelativeHoliday {
 
     private AscensionOfChrist(String key, String name, AdministrativeArea... administrativeAreas) {
-        super(key, name, administrativeAreas);
+        super(39, key, name, administrativeAreas);
     }
 
     /**
@@ -64,28 +60,4 @@ public class AscensionOfChrist extends AbstractHoliday {
         return new AscensionOfChrist(null, name, administrativeAreas);
     }
 
-    @Override
-    public LocalDate getDate(int year) {
-        try {
-            return easterSunday.getDate(year).plusDays(39);
-        } catch (HolidayException he) {
-            throw new HolidayException("The calculation of AscensionOfChrist relies on EasterSunday and therefore can only be determined for the years between " + getMinimalYear() + " and " + getMaximalYear());
-        }
-    }
-
-    /**
-     * @return same maximum year as Easter sunday
-     */
-    @Override
-    public int getMaximalYear() {
-        return easterSunday.getMaximalYear();
-    }
-
-    /**
-     * @return same minimum year as Easter sunday
-     */
-    @Override
-    public int getMinimalYear() {
-        return easterSunday.getMinimalYear();
-    }
 }
@@ -0,0 +1,32 @@
+package org.nordicthings.commons.holiday;
+
+/**
+ * Conventions to move a date which is not a working day to a working day, see
+ * {@link HolidayCalendar#adjust(java.time.LocalDate, BusinessDayConvention, AdministrativeArea...)}. A working day is
+ * never moved.
+ */
+public enum BusinessDayConvention {
+
+    /**
+     * The first working day after the date.
+     */
+    FOLLOWING,
+
+    /**
+     * The first working day after the date, unless it lies in the next month. In this case the last working day
+     * before the date.
+     */
+    MODIFIED_FOLLOWING,
+
+    /**
+     * The last working day before the date.
+     */
+    PRECEDING,
+
+    /**
+     * The last working day before the date, unless it lies in the previous month. In this case the first working day
+     * after the date.
+     */
+    MODIFIED_PRECEDING
+
+}
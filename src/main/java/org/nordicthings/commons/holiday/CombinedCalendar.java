@@ -0,0 +1,224 @@
+package org.nordicthings.commons.holiday;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The working days of several calendars combined into a single compiled calendar, e.g. the days which are working
+ * days both in Germany and in France or the days which are working days in at least one of several countries. Every
+ * calendar is given together with the administrative areas whose holidays are considered.
+ * <p>
+ * The days which are no working days in the single calendars are combined once when the calendar is built, by OR-ing
+ * them for an {@link #intersection() intersection} and by AND-ing them for a {@link #union() union} of the working
+ * days. Queries therefore cost the same as the queries of a single calendar. The combined calendar covers the period
+ * which is covered by all calendars; days outside of it are working days unless they are weekends of the combined
+ * calendars. A combined calendar is immutable and thread-safe.
+ */
+public final class CombinedCalendar {
+
+    private final LocalDate periodStart;
+    private final LocalDate periodEnd;
+    private final WorkingDays workingDays;
+
+    private CombinedCalendar(LocalDate periodStart, LocalDate periodEnd, WorkingDays workingDays) {
+        this.periodStart = periodStart;
+        this.periodEnd = periodEnd;
+        this.workingDays = workingDays;
+    }
+
+    /**
+     * @return a Builder of a calendar whose working days are working days in <strong>all</strong> added calendars.
+     */
+    public static Builder intersection() {
+        return new Builder(true);
+    }
+
+    /**
+     * @return a Builder of a calendar whose working days are working days in <strong>at least one</strong> of the
+     * added calendars.
+     */
+    public static Builder union() {
+        return new Builder(false);
+    }
+
+    /**
+     * @return the beginning of the period covered by all combined calendars.
+     */
+    public LocalDate getPeriodStart() {
+        return periodStart;
+    }
+
+    /**
+     * @return the end of the period covered by all combined calendars.
+     */
+    public LocalDate getPeriodEnd() {
+        return periodEnd;
+    }
+
+    /**
+     * @param date any date.
+     * @return true: the given date is a working day of the combined calendar.
+     */
+    public boolean isWorkingDay(LocalDate date) {
+        if (date == null) {
+            throw new IllegalArgumentException("Unable to determine working day for a date of null");
+        }
+        return workingDays.isWorkingDay(date.toEpochDay());
+    }
+
+    /**
+     * @param epochDay any day given as epoch day, see {@link LocalDate#toEpochDay()}.
+     * @return true: the given day is a working day of the combined calendar.
+     */
+    public boolean isWorkingDay(long epochDay) {
+        return workingDays.isWorkingDay(epochDay);
+    }
+
+    /**
+     * @param date a date within the period of the combined calendar.
+     * @return the next working day on or after the given date within the period.
+     */
+    public Optional<LocalDate> getNextWorkingDay(LocalDate date) {
+        int offset = offsetOf(date);
+        return offset < 0 ? Optional.empty() : dateAt(workingDays.next(offset));
+    }
+
+    /**
+     * @param date a date within the period of the combined calendar.
+     * @return the previous working day on or before the given date within the period.
+     */
+    public Optional<LocalDate> getPreviousWorkingDay(LocalDate date) {
+        int offset = offsetOf(date);
+        return offset < 0 ? Optional.empty() : dateAt(workingDays.previous(offset));
+    }
+
+    /**
+     * @param date a date within the period of the combined calendar.
+     * @param amount the number of working days to be added, may be negative.
+     * @return the date which lies the given number of working days after the given date, the given date itself if
+     * the number of working days is zero or empty if the given date or the result lies outside the period.
+     */
+    public Optional<LocalDate> plusWorkingDays(LocalDate date, int amount) {
+        int offset = offsetOf(date);
+        return offset < 0 ? Optional.empty() : dateAt(workingDays.shift(offset, amount));
+    }
+
+    /**
+     * @param date a date within the period of the combined calendar.
+     * @param amount the number of working days to be subtracted, may be negative.
+     * @return the date which lies the given number of working days before the given date, the given date itself if
+     * the number of working days is zero or empty if the given date or the result lies outside the period.
+     */
+    public Optional<LocalDate> minusWorkingDays(LocalDate date, int amount) {
+        int offset = offsetOf(date);
+        return offset < 0 ? Optional.empty() : dateAt(workingDays.shift(offset, -(long) amount));
+    }
+
+    /**
+     * @param from the first date of the interval, inclusive.
+     * @param to the last date of the interval, inclusive.
+     * @return the number of working days of the combined calendar between both dates.
+     */
+    public int countWorkingDays(LocalDate from, LocalDate to) {
+        int fromOffset = offsetOf(from);
+        int toOffset = offsetOf(to);
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("Unable to count working days if the end " + to + " is before the beginning " + from);
+        }
+        if (fromOffset < 0 || toOffset < 0) {
+            throw new IllegalArgumentException("Unable to count working days outside of the period between " + periodStart + " and " + periodEnd);
+        }
+        return workingDays.count(fromOffset, toOffset);
+    }
+
+    private int offsetOf(LocalDate date) {
+        if (date == null) {
+            throw new IllegalArgumentException("Unable to determine working day for a date of null");
+        }
+        if (date.isBefore(periodStart) || date.isAfter(periodEnd)) {
+            return -1;
+        }
+        return (int) (date.toEpochDay() - periodStart.toEpochDay());
+    }
+
+    private Optional<LocalDate> dateAt(int offset) {
+        return offset < 0 ? Optional.empty() : Optional.of(periodStart.plusDays(offset));
+    }
+
+    public static class Builder {
+
+        private final boolean intersection;
+        private final List<HolidayCalendar> calendars = new ArrayList<>();
+        private final List<AreaSelector> selectors = new ArrayList<>();
+
+        private Builder(boolean intersection) {
+            this.intersection = intersection;
+        }
+
+        /**
+         * @param calendar a calendar to be combined
+         * @param areas optional administrative areas whose holidays are considered in addition to the nationwide ones
+         * @return the Builder instance
+         */
+        public Builder calendar(HolidayCalendar calendar, AdministrativeArea... areas) {
+            return calendar(calendar, AreaSelector.of(areas));
+        }
+
+        /**
+         * @param calendar a calendar to be combined
+         * @param selector the administrative areas whose holidays are considered in addition to the nationwide ones
+         * @return the Builder instance
+         */
+        public Builder calendar(HolidayCalendar calendar, AreaSelector selector) {
+            if (calendar == null || selector == null) {
+                throw new IllegalArgumentException("A combined calendar requires a calendar and a selector of its areas");
+            }
+            calendars.add(calendar);
+            selectors.add(selector);
+            return this;
+        }
+
+        /**
+         * @return the new instance of CombinedCalendar.
+         */
+        public CombinedCalendar build() {
+            if (calendars.isEmpty()) {
+                throw new IllegalStateException("A combined calendar requires at least one calendar");
+            }
+            LocalDate start = calendars.get(0).getPeriodStart();
+            LocalDate end = calendars.get(0).getPeriodEnd();
+            for (HolidayCalendar calendar : calendars) {
+                start = calendar.getPeriodStart().isAfter(start) ? calendar.getPeriodStart() : start;
+                end = calendar.getPeriodEnd().isBefore(end) ? calendar.getPeriodEnd() : end;
+            }
+            if (end.isBefore(start)) {
+                throw new IllegalStateException("The periods of the combined calendars do not overlap");
+            }
+            long startEpochDay = start.toEpochDay();
+            int length = (int) (end.toEpochDay() - startEpochDay + 1);
+            long[] nonWorkingDays = new long[(length + 63) >>> 6];
+            int weekend = 0;
+            for (int i = 0; i < calendars.size(); i++) {
+                HolidayIndex index = calendars.get(i).index();
+                WorkingDays table = index.workingDays(selectors.get(i));
+                long[] bits = new long[nonWorkingDays.length];
+                for (int day = 0; day < length; day++) {
+                    if (!table.isWorkingDay(startEpochDay + day)) {
+                        bits[day >>> 6] |= 1L << day;
+                    }
+                }
+                // the weekend outside of the period is the one the table applies inside of it
+                int mask = table.weekend();
+                for (int word = 0; word < bits.length; word++) {
+                    nonWorkingDays[word] = i == 0 ? bits[word]
+                            : intersection ? nonWorkingDays[word] | bits[word] : nonWorkingDays[word] & bits[word];
+                }
+                weekend = i == 0 ? mask : intersection ? weekend | mask : weekend & mask;
+            }
+            return new CombinedCalendar(start, end, WorkingDays.compile(startEpochDay, length, nonWorkingDays, weekend));
+        }
+    }
+
+}
@@ -0,0 +1,67 @@
+package org.nordicthings.commons.holiday;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * A single occurrence of a {@link Holiday} on a concrete date.
+ */
+public final class ConcreteHoliday {
+
+    private final LocalDate date;
+    private final Holiday holiday;
+
+    private ConcreteHoliday(LocalDate date, Holiday holiday) {
+        this.date = date;
+        this.holiday = holiday;
+    }
+
+    /**
+     * @param date the concrete date
+     * @param holiday the holiday falling on the date
+     * @return a new instance of ConcreteHoliday
+     */
+    public static ConcreteHoliday of(LocalDate date, Holiday holiday) {
+        if (date == null || holiday == null) {
+            throw new IllegalArgumentException("A concrete holiday requires a date and a holiday");
+        }
+        return new ConcreteHoliday(date, holiday);
+    }
+
+    /**
+     * @return the concrete date.
+     */
+    public LocalDate getDate() {
+        return date;
+    }
+
+    /**
+     * @return the holiday falling on the date.
+     */
+    public Holiday getHoliday() {
+        return holiday;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ConcreteHoliday)) {
+            return false;
+        }
+        ConcreteHoliday other = (ConcreteHoliday) o;
+        return date.equals(other.date) && holiday.equals(other.holiday);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(date, holiday);
+    }
+
+    @Override
+    public String toString() {
+        return date + " " + holiday.getName();
+    }
+
+}
@@ -1,16 +1,12 @@
 package org.nordicthings.commons.holiday;
 
-import java.time.LocalDate;
-
 /**
  * Corpus Christi is 60 days after Easter Sunday.
  */
-public class CorpusChristi extends AbstractHoliday {
-
-    private final Holiday easterSunday = EasterSunday.ofSpecificAreas();
+public class CorpusChristi extends EasterRelativeHoliday {
 
     private CorpusChristi(String key, String name, AdministrativeArea... administrativeAreas) {
-        super(key, name, administrativeAreas);
+        super(60, key, name, administrativeAreas);
     }
 
     /**
@@ -64,29 +60,4 @@ public class CorpusChristi extends AbstractHoliday {
         return new CorpusChristi(null, name, administrativeAreas);
     }
 
-    @Override
-    public LocalDate getDate(int year) {
-        try {
-            return easterSunday.getDate(year).plusDays(60);
-        } catch (HolidayException he) {
-            throw new HolidayException("Corpus Christi cannot be determined for the years between " + getMinimalYear() + " and " + getMaximalYear());
-        }
-    }
-
-    /**
-     * @return same maximum year as Easter sunday
-     */
-    @Override
-    public int getMaximalYear() {
-        return easterSunday.getMaximalYear();
-    }
-
-    /**
-     * @return same minimum year as Easter sunday
-     */
-    @Override
-    public int getMinimalYear() {
-        return easterSunday.getMinimalYear();
-    }
-
 }
@@ -1,16 +1,12 @@
 package org.nordicthings.commons.holiday;
 
-import java.time.LocalDate;
-
 /**
  * Easter monday is the monday after Easter sunday. Surprise... ;-)
  */
-public class EasterMonday extends AbstractHoliday {
-
-    private final Holiday easterSunday = EasterSunday.ofSpecificAreas();
+public class EasterMonday extends EasterRelativeHoliday {
 
     private EasterMonday(String key, String name, AdministrativeArea... administrativeAreas) {
-        super(key, name, administrativeAreas);
+        super(1, key, name, administrativeAreas);
     }
 
     /**
@@ -63,28 +59,4 @@ public class EasterMonday extends AbstractHoliday {
         return new EasterMonday(null, name, administrativeAreas);
     }
 
-    @Override
-    public LocalDate getDate(int year) {
-        try {
-            return easterSunday.getDate(year).plusDays(1);
-        } catch (HolidayException he) {
-            throw new HolidayException("The calculation of EasterMonday relies on EasterSunday and therefore can only be determined for the years between " + getMinimalYear() + " and " + getMaximalYear());
-        }
-    }
-
-    /**
-     * @return same maximum year as Easter sunday
-     */
-    @Override
-    public int getMaximalYear() {
-        return easterSunday.getMaximalYear();
-    }
-
-    /**
-     * @return same minimum year as Easter sunday
-     */
-    @Override
-    public int getMinimalYear() {
-        return easterSunday.getMinimalYear();
-    }
 }
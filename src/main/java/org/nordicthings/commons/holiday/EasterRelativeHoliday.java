@@ -0,0 +1,117 @@
+package org.nordicthings.commons.holiday;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A movable feast at a fixed number of days before or after Easter sunday, e.g. Ash Wednesday 46 days before Easter
+ * sunday. The date is resolved from the precomputed dates of Easter sunday, which are shared by all instances, so that
+ * further movable feasts do not add any computation. The feasts of the Western Church like {@link GoodFriday} or
+ * {@link CorpusChristi} are specializations with a fixed offset.
+ */
+public class EasterRelativeHoliday extends AbstractHoliday {
+
+    /**
+     * The smallest offset for which the holiday stays within the year of Easter sunday, which is March, 22 at the
+     * earliest.
+     */
+    static final int MINIMAL_OFFSET = -80;
+
+    /**
+     * The largest offset for which the holiday stays within the year of Easter sunday, which is April, 25 at the
+     * latest.
+     */
+    static final int MAXIMAL_OFFSET = 249;
+
+    private final int offset;
+
+    protected EasterRelativeHoliday(int offset, String key, String name, AdministrativeArea... administrativeAreas) {
+        super(key, name, administrativeAreas);
+        this.offset = offset;
+    }
+
+    /**
+     * @param days the number of days between Easter sunday and the holiday, negative for holidays before Easter.
+     * @param name the human-readable name to be used for the instance.
+     * @return a new instance with national validity. Key is set with its default value.
+     */
+    public static EasterRelativeHoliday ofOffset(int days, String name) {
+        return ofOffset(days, null, name);
+    }
+
+    /**
+     * @param days the number of days between Easter sunday and the holiday, negative for holidays before Easter.
+     * @param key the unique key to be used for the instance.
+     * @param name the human-readable name to be used for the instance.
+     * @param administrativeAreas the administrative areas for which the holiday is valid.
+     * @return a new instance with the given values.
+     */
+    public static EasterRelativeHoliday ofOffset(int days, String key, String name, AdministrativeArea... administrativeAreas) {
+        if (days < MINIMAL_OFFSET || days > MAXIMAL_OFFSET) {
+            throw new IllegalArgumentException("The offset of a holiday relative to Easter has to be between " + MINIMAL_OFFSET + " and " + MAXIMAL_OFFSET + " days");
+        }
+        return new EasterRelativeHoliday(days, key, name, administrativeAreas);
+    }
+
+    /**
+     * @return the number of days between Easter sunday and the holiday.
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * Resolves several holidays of the same year with a single lookup of Easter sunday.
+     *
+     * @param year the year of interest
+     * @param holidays the holidays to be resolved
+     * @return the dates of the given holidays in the same order
+     */
+    public static List<LocalDate> getDates(int year, List<? extends EasterRelativeHoliday> holidays) {
+        if (!EasterTable.isValidYear(year)) {
+            throw new HolidayException("Holidays relative to Easter can only be determined for the years between " + EasterTable.MINIMAL_YEAR + " and " + EasterTable.MAXIMAL_YEAR);
+        }
+        long easterSunday = EasterTable.getEpochDay(year, 0);
+        List<LocalDate> dates = new ArrayList<>(holidays.size());
+        for (EasterRelativeHoliday holiday : holidays) {
+            dates.add(LocalDate.ofEpochDay(easterSunday + holiday.offset));
+        }
+        return dates;
+    }
+
+    /**
+     * @param year a valid year of the holiday
+     * @return the date of the holiday in the given year as epoch day, without creating a date
+     */
+    long getEpochDay(int year) {
+        return EasterTable.getEpochDay(year, offset);
+    }
+
+    @Override
+    public final LocalDate getDate(int year) {
+        if (!isValidYear(year)) {
+            if (offset == 0) {
+                throw new HolidayException(getName() + " can only be determined for the years between " + getMinimalYear() + " and " + getMaximalYear());
+            }
+            throw new HolidayException("The calculation of " + getName() + " relies on Easter sunday and therefore can only be determined for the years between " + getMinimalYear() + " and " + getMaximalYear());
+        }
+        return EasterTable.getDate(year, offset);
+    }
+
+    /**
+     * @return same maximum year as Easter sunday
+     */
+    @Override
+    public int getMaximalYear() {
+        return EasterTable.MAXIMAL_YEAR;
+    }
+
+    /**
+     * @return same minimum year as Easter sunday
+     */
+    @Override
+    public int getMinimalYear() {
+        return EasterTable.MINIMAL_YEAR;
+    }
+}
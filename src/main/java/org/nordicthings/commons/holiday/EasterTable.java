@@ -0,0 +1,91 @@
+package org.nordicthings.commons.holiday;
+
+import java.time.LocalDate;
+import java.time.Year;
+
+/**
+ * Precomputed dates of Easter sunday for all years supported by {@link EasterSunday}. The table is filled once when
+ * the class is initialized and holds the date of Easter sunday as day of March (32. March = 1. April etc.), which
+ * takes one byte per year. All holidays relative to Easter resolve their dates from this table.
+ */
+final class EasterTable {
+
+    /**
+     * The algorithm is based on the Gregorian calendar which starts in 1583.
+     */
+    static final int MINIMAL_YEAR = 1583;
+
+    /**
+     * The maximum year for which the algorithm delivers valid values is 8202.
+     */
+    static final int MAXIMAL_YEAR = 8202;
+
+    private static final byte[] MARCH_DAYS = new byte[MAXIMAL_YEAR - MINIMAL_YEAR + 1];
+
+    static {
+        for (int year = MINIMAL_YEAR; year <= MAXIMAL_YEAR; year++) {
+            MARCH_DAYS[year - MINIMAL_YEAR] = (byte) computeMarchDay(year);
+        }
+    }
+
+    private EasterTable() {}
+
+    /**
+     * @param year the year of interest
+     * @return true: the table holds the date of Easter sunday for the given year
+     */
+    static boolean isValidYear(int year) {
+        return year >= MINIMAL_YEAR && year <= MAXIMAL_YEAR;
+    }
+
+    /**
+     * @param year a year between {@link #MINIMAL_YEAR} and {@link #MAXIMAL_YEAR}
+     * @param offset the number of days between Easter sunday and the requested date, may be negative
+     * @return the date which lies the given number of days after Easter sunday of the given year
+     */
+    static LocalDate getDate(int year, int offset) {
+        return LocalDate.ofYearDay(year, getDayOfYear(year, offset));
+    }
+
+    /**
+     * @param year a year between {@link #MINIMAL_YEAR} and {@link #MAXIMAL_YEAR}
+     * @param offset the number of days between Easter sunday and the requested date, may be negative
+     * @return the day of year of the date which lies the given number of days after Easter sunday of the given year
+     */
+    static int getDayOfYear(int year, int offset) {
+        int daysBeforeMarch = Year.isLeap(year) ? 60 : 59;
+        return daysBeforeMarch + MARCH_DAYS[year - MINIMAL_YEAR] + offset;
+    }
+
+    /**
+     * @param year a year between {@link #MINIMAL_YEAR} and {@link #MAXIMAL_YEAR}
+     * @param offset the number of days between Easter sunday and the requested date, may be negative
+     * @return the epoch day of the date which lies the given number of days after Easter sunday of the given year
+     */
+    static long getEpochDay(int year, int offset) {
+        // days from 0000-01-01 to the first day of the year minus the days from 0000-01-01 to 1970-01-01
+        long yearStart = 365L * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400 - 719528;
+        return yearStart + getDayOfYear(year, offset) - 1;
+    }
+
+    /**
+     * Calculates Easter sunday by the Gauss's easter algorithm in the version of Hermann Kinkelin.
+     * See https://de.wikipedia.org/wiki/Gau%C3%9Fsche_Osterformel
+     *
+     * @param year the year of interest
+     * @return Easter sunday as day of March (32. March = 1. April etc.)
+     */
+    private static int computeMarchDay(int year) {
+        int k = year / 100;  // Säkularzahl
+        int m = 15 + (3 * k + 3) / 4 - (8 * k + 13) / 25; // säkulare Mondschaltung
+        int s = 2 - (3 * k + 3) / 4; // säkulare Sonnenschaltung
+        int a = year % 19; // Mondparameter
+        int d = (19 * a + m) % 30; // Keim für den ersten Vollmond im Frühling
+        int r = (d + a / 11) / 29; // Kalendarische Korrekturgröße
+        int og = 21 + d -r; // Ostergrenze
+        int sz = 7 - (year + year / 4 + s) % 7; // erster Sonntag im März
+        int oe = 7 - (og - sz) % 7; // Entfernung des Ostersonntags von der Ostergrenze
+        return og + oe; // Ostersonntag als Märzdatum (32. März = 1. April usw.)
+    }
+
+}
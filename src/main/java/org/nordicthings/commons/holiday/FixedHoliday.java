@@ -1,9 +1,11 @@
 package org.nordicthings.commons.holiday;
 
 import java.time.LocalDate;
+import java.time.Year;
 
 /**
- * Generic holiday which can be used for holidays at fixed dates like Christmas.
+ * Generic holiday which can be used for holidays at fixed dates like Christmas. A holiday on February, 29 only takes
+ * place in leap years.
  */
 public class FixedHoliday extends AbstractHoliday {
 
@@ -70,7 +72,22 @@ public class FixedHoliday extends AbstractHoliday {
 
     @Override
     public LocalDate getDate(int year) {
+        if (!isLeapDayInYear(year)) {
+            throw new HolidayException(getName() + " does not take place in " + year);
+        }
         return LocalDate.of(year, month, day);
     }
 
+    /**
+     * @return false for the years which are not leap years if the holiday is on February, 29.
+     */
+    @Override
+    public boolean isValidYear(int year) {
+        return super.isValidYear(year) && isLeapDayInYear(year);
+    }
+
+    private boolean isLeapDayInYear(int year) {
+        return month != 2 || day != 29 || Year.isLeap(year);
+    }
+
 }
@@ -1,16 +1,12 @@
 package org.nordicthings.commons.holiday;
 
-import java.time.LocalDate;
-
 /**
  * Good Friday is the friday before Easter sunday.
  */
-public class GoodFriday extends AbstractHoliday {
-
-    private final Holiday easterSunday = EasterSunday.standard();
+public class GoodFriday extends EasterRelativeHoliday {
 
     private GoodFriday(String key, String name, AdministrativeArea... administrativeAreas) {
-        super(key, name, administrativeAreas);
+        super(-2, key, name, administrativeAreas);
     }
 
     /**
@@ -64,28 +60,4 @@ public class GoodFriday extends AbstractHoliday {
         return new GoodFriday(null, name, administrativeAreas);
     }
 
-    @Override
-    public LocalDate getDate(int year) {
-        try {
-            return easterSunday.getDate(year).minusDays(2);
-        } catch (HolidayException he) {
-            throw new HolidayException("The calculation of GoodFriday relies on EasterSunday and therefore can only be determined for the years between " + getMinimalYear() + " and " + getMaximalYear());
-        }
-    }
-
-    /**
-     * @return same maximum year as Easter sunday
-     */
-    @Override
-    public int getMaximalYear() {
-        return easterSunday.getMaximalYear();
-    }
-
-    /**
-     * @return same minimum year as Easter sunday
-     */
-    @Override
-    public int getMinimalYear() {
-        return easterSunday.getMinimalYear();
-    }
 }
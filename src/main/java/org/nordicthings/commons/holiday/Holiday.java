@@ -6,6 +6,10 @@ import java.util.Set;
 /**
  * An annually recurring date according to a given rhythm. A holiday may be public nationwide or only in certain
  * administrative areas and a holiday may be valid only in a specific interval of years.
+ * <p>
+ * The areas in which a holiday is public are defined by {@link #isNationWide()} and
+ * {@link #getAdministrativeAreas()}. A {@link HolidayCalendar} reads them once when it compiles its holidays and does
+ * not call the {@code isHolidayIn} methods afterwards, so implementations overriding them must agree with the former.
  */
 public interface Holiday {
 
@@ -36,6 +40,22 @@ public interface Holiday {
      */
     boolean isHolidayIn(AdministrativeArea... areas);
 
+    /**
+     * @param selector some precompiled administrative areas
+     * @return true: the holiday is public nationwide or in at least one of the selected areas.
+     */
+    default boolean isHolidayIn(AreaSelector selector) {
+        if (isNationWide()) {
+            return true;
+        }
+        for (AdministrativeArea area : getAdministrativeAreas()) {
+            if (selector.contains(area)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * @return the holiday is public in these administrative areas.
      */
@@ -2,18 +2,85 @@ package org.nordicthings.commons.holiday;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.*;
+import java.util.function.IntPredicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
- * A public holiday calendar holds public holidays for a specified period of time.
+ * A public holiday calendar holds public holidays for a specified period of time. The period may span several years,
+ * in which case every occurrence of a holiday within the period is considered.
+ * <p>
+ * The read methods of a calendar need no synchronization and can be used by any number of threads. A calendar is
+ * either modifiable by {@link #addHoliday(Holiday)} or frozen. A frozen calendar is immutable and holds its state in
+ * final fields, so that it is safely published to other threads; modified calendars are derived from it by
+ * {@link #withHoliday(Holiday)} and {@link #withHolidays(Collection)}, which leave the original untouched.
+ * <p>
+ * Saturday and sunday are the weekend of a calendar unless a different {@link Weekend} is set for the calendar or for
+ * single administrative areas by {@link #setWeekend(Weekend)} and {@link #setWeekend(AdministrativeArea, Weekend)}.
+ * <p>
+ * The queries taking administrative areas as varargs do not allocate for no area or for a single area with holidays
+ * or a weekend of its own. Combinations of several such areas are resolved on every call; queries of them in hot loops
+ * should use the overloads taking an {@link AreaSelector}, which is resolved once.
  */
 public class HolidayCalendar {
 
-    private LocalDate periodStart;
-    private LocalDate periodEnd;
-    private final Map<LocalDate, Holiday> holidays = new HashMap<>();
+    /**
+     * Batches of at least this size are classified in parallel.
+     */
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    /**
+     * Returned by {@link #nextWorkingDay(long, AdministrativeArea...)} if there is no working day.
+     */
+    public static final long NO_WORKING_DAY = Long.MIN_VALUE;
 
-    private HolidayCalendar() {}
+    private final LocalDate periodStart;
+    private final LocalDate periodEnd;
+    private final List<Holiday> holidays;
+    // the complete state of a frozen calendar, null if the calendar is modifiable
+    private final HolidayIndex frozenIndex;
+    // the state of a modifiable calendar, guarded by this
+    private Weekends weekends;
+    private volatile HolidayIndex index;
+
+    private HolidayCalendar(LocalDate periodStart, LocalDate periodEnd) {
+        this.periodStart = periodStart;
+        this.periodEnd = periodEnd;
+        this.holidays = new ArrayList<>();
+        this.frozenIndex = null;
+        this.weekends = Weekends.DEFAULT;
+    }
+
+    private HolidayCalendar(LocalDate periodStart, LocalDate periodEnd, List<Holiday> holidays, HolidayIndex index) {
+        this.periodStart = periodStart;
+        this.periodEnd = periodEnd;
+        this.holidays = Collections.unmodifiableList(holidays);
+        this.frozenIndex = index;
+    }
+
+    /**
+     * @param periodStart the beginning of the period
+     * @param periodEnd the end of the period
+     * @param holidays the holidays of the calendar
+     * @param index the compiled holidays, which must match the given holidays
+     * @return a frozen calendar which uses the given index instead of compiling the holidays again
+     */
+    static HolidayCalendar restore(LocalDate periodStart, LocalDate periodEnd, List<Holiday> holidays, HolidayIndex index) {
+        return new HolidayCalendar(periodStart, periodEnd, new ArrayList<>(holidays), index);
+    }
+
+    /**
+     * @param start the beginning of the part, which must lie within the period of this calendar
+     * @param end the end of the part, which must lie within the period of this calendar
+     * @return a frozen calendar of the given part of the period, which takes over the compiled holidays of this
+     * calendar instead of compiling them again
+     */
+    HolidayCalendar slice(LocalDate start, LocalDate end) {
+        return new HolidayCalendar(start, end, new ArrayList<>(holidays), index().slice(start, end));
+    }
 
     /**
      * @return a Builder to create a new instance HolidayCalendar
@@ -40,39 +107,167 @@ public class HolidayCalendar {
      * @return true: there are no holidays configured for this instance.
      */
     public boolean isEmpty() {
-        return holidays.isEmpty();
+        return index().isEmpty();
     }
 
     /**
      * @param holiday the holiday to be checked.
-     * @return true: The given holiday falls within the time period covered by the calendar.
+     * @return true: The given holiday takes place at least once within the time period covered by the calendar.
      */
     public boolean isInPeriod(Holiday holiday) {
-        if (periodStart.getYear() == periodEnd.getYear()) {
-            return !holiday.getDate(periodStart.getYear()).isBefore(periodStart) & !holiday.getDate(periodEnd.getYear()).isAfter(periodEnd);
-        } else {
-            return !holiday.getDate(periodStart.getYear()).isBefore(periodStart) || !holiday.getDate(periodEnd.getYear()).isAfter(periodEnd);
-        }
+        return getConcreteDate(holiday) != null;
     }
 
     /**
      * @param holiday a holiday
-     * @return the concrete day on which the given holiday takes place within the time period covered by the calendar.
+     * @return the first concrete day on which the given holiday takes place within the time period covered by the
+     * calendar or {@code null} if the holiday does not take place within the period.
      */
     public LocalDate getConcreteDate(Holiday holiday) {
-        if (holiday.getDate(periodStart.getYear()).isAfter(periodStart)) {
-            return holiday.getDate(periodStart.getYear());
+        for (int year = periodStart.getYear(); year <= periodEnd.getYear(); year++) {
+            LocalDate date = getConcreteDate(holiday, year);
+            if (date != null) {
+                return date;
+            }
         }
-        return holiday.getDate(periodEnd.getYear());
+        return null;
     }
 
     /**
+     * @param holiday a holiday
+     * @return all concrete days on which the given holiday takes place within the time period covered by the
+     * calendar in ascending order.
+     */
+    public List<LocalDate> getConcreteDates(Holiday holiday) {
+        List<LocalDate> dates = new ArrayList<>();
+        for (int year = periodStart.getYear(); year <= periodEnd.getYear(); year++) {
+            LocalDate date = getConcreteDate(holiday, year);
+            if (date != null) {
+                dates.add(date);
+            }
+        }
+        return dates;
+    }
+
+    private LocalDate getConcreteDate(Holiday holiday, int year) {
+        if (!holiday.isValidYear(year)) {
+            return null;
+        }
+        LocalDate date = holiday.getDate(year);
+        return date.isBefore(periodStart) || date.isAfter(periodEnd) ? null : date;
+    }
+
+    /**
+     * Adds every occurrence of the given holiday within the time period covered by the calendar.
      * @param holiday the holiday to be added to the calendar.
+     * @throws UnsupportedOperationException if the calendar is frozen.
      */
-    public void addHoliday(Holiday holiday) {
+    public synchronized void addHoliday(Holiday holiday) {
+        if (isFrozen()) {
+            throw new UnsupportedOperationException("A frozen holiday calendar cannot be modified, use withHoliday instead");
+        }
         if (isInPeriod(holiday)) {
-            holidays.put(getConcreteDate(holiday), holiday);
+            holidays.add(holiday);
+            index = null;
+        }
+    }
+
+    /**
+     * Sets the weekend of all administrative areas without a weekend of their own.
+     * @param weekend the days which are no working days, saturday and sunday by default.
+     * @throws UnsupportedOperationException if the calendar is frozen.
+     */
+    public synchronized void setWeekend(Weekend weekend) {
+        if (weekend == null) {
+            throw new IllegalArgumentException("The weekend of a holiday calendar must not be null");
+        }
+        if (isFrozen()) {
+            throw new UnsupportedOperationException("A frozen holiday calendar cannot be modified");
+        }
+        weekends = weekends.withStandard(weekend);
+        index = null;
+    }
+
+    /**
+     * Sets the weekend of a single administrative area. A day is no working day in several areas if it is a weekend
+     * in at least one of them.
+     * @param area the administrative area.
+     * @param weekend the days which are no working days in the given area.
+     * @throws UnsupportedOperationException if the calendar is frozen.
+     */
+    public synchronized void setWeekend(AdministrativeArea area, Weekend weekend) {
+        if (area == null || weekend == null) {
+            throw new IllegalArgumentException("The area and the weekend of a holiday calendar must not be null");
+        }
+        if (isFrozen()) {
+            throw new UnsupportedOperationException("A frozen holiday calendar cannot be modified");
+        }
+        weekends = weekends.withArea(area, weekend);
+        index = null;
+    }
+
+    /**
+     * @return the weekend of all administrative areas without a weekend of their own.
+     */
+    public Weekend getWeekend() {
+        return index().weekends().getStandard();
+    }
+
+    /**
+     * @param area an administrative area.
+     * @return the weekend of the given area.
+     */
+    public Weekend getWeekend(AdministrativeArea area) {
+        return index().weekends().get(area);
+    }
+
+    /**
+     * @return true: the calendar is immutable.
+     */
+    public boolean isFrozen() {
+        return frozenIndex != null;
+    }
+
+    /**
+     * @return a frozen calendar with the same period and holidays as this calendar or this calendar itself if it is
+     * already frozen.
+     */
+    public HolidayCalendar freeze() {
+        if (isFrozen()) {
+            return this;
         }
+        synchronized (this) {
+            return new HolidayCalendar(periodStart, periodEnd, new ArrayList<>(holidays), index());
+        }
+    }
+
+    /**
+     * @param holiday the holiday to be added.
+     * @return a new frozen calendar with the holidays of this calendar and the given holiday. This calendar remains
+     * unchanged.
+     */
+    public HolidayCalendar withHoliday(Holiday holiday) {
+        return withHolidays(Collections.singletonList(holiday));
+    }
+
+    /**
+     * @param additionalHolidays the holidays to be added.
+     * @return a new frozen calendar with the holidays of this calendar and the given holidays. This calendar remains
+     * unchanged.
+     */
+    public HolidayCalendar withHolidays(Collection<? extends Holiday> additionalHolidays) {
+        List<Holiday> copy;
+        Weekends currentWeekends;
+        synchronized (this) {
+            copy = new ArrayList<>(holidays);
+            currentWeekends = isFrozen() ? frozenIndex.weekends() : weekends;
+        }
+        for (Holiday holiday : additionalHolidays) {
+            if (isInPeriod(holiday)) {
+                copy.add(holiday);
+            }
+        }
+        return new HolidayCalendar(periodStart, periodEnd, copy, HolidayIndex.compile(periodStart, periodEnd, copy, currentWeekends));
     }
 
     /**
@@ -85,7 +280,44 @@ public class HolidayCalendar {
         if (date == null) {
             throw new IllegalArgumentException("Unable to determine holiday for a date of null");
         }
-        return holidays.containsKey(date) && holidays.get(date).isHolidayIn(areas);
+        return index().isHoliday(date.toEpochDay(), areas);
+    }
+
+    /**
+     * Same as {@link #isHoliday(LocalDate, AdministrativeArea...)} for a day given as epoch day, which does not
+     * create any {@link LocalDate}.
+     * @param epochDay a day within the time period covered by the calendar, see {@link LocalDate#toEpochDay()}.
+     * @param areas optional administrative areas for which the given day shall be checked.
+     * @return true: the given day is a public holiday in one or more of the given areas. If no areas are specified,
+     * the method only returns true if the holiday is not a regional holiday.
+     */
+    public boolean isHoliday(long epochDay, AdministrativeArea... areas) {
+        return index().isHoliday(epochDay, areas);
+    }
+
+    /**
+     * @param date  a date within the time period covered by the calendar.
+     * @param selector the precompiled administrative areas for which the given date shall be checked.
+     * @return true: the given date is a nationwide public holiday or a public holiday in one or more of the selected
+     * areas.
+     */
+    public boolean isHoliday(LocalDate date, AreaSelector selector) {
+        if (date == null) {
+            throw new IllegalArgumentException("Unable to determine holiday for a date of null");
+        }
+        return isHoliday(date.toEpochDay(), selector);
+    }
+
+    /**
+     * Same as {@link #isHoliday(LocalDate, AreaSelector)} for a day given as epoch day, which does not create any
+     * {@link LocalDate}.
+     * @param epochDay a day within the time period covered by the calendar, see {@link LocalDate#toEpochDay()}.
+     * @param selector the precompiled administrative areas for which the given day shall be checked.
+     * @return true: the given day is a nationwide public holiday or a public holiday in one or more of the selected
+     * areas.
+     */
+    public boolean isHoliday(long epochDay, AreaSelector selector) {
+        return workingDays(index(), selector).isHoliday(epochDay);
     }
 
     /**
@@ -98,12 +330,47 @@ public class HolidayCalendar {
         if (date == null) {
             throw new IllegalArgumentException("Unable to determine working day for a date of null");
         }
-        return !isWeekend(date) && !isHoliday(date, areas);
+        return index().isWorkingDay(date.toEpochDay(), areas);
+    }
+
+    /**
+     * Same as {@link #isWorkingDay(LocalDate, AdministrativeArea...)} for a day given as epoch day, which does not
+     * create any {@link LocalDate}.
+     * @param epochDay a day within the time period covered by the calendar, see {@link LocalDate#toEpochDay()}.
+     * @param areas optional administrative areas for which the given day shall be checked.
+     * @return true: the given day is a working day in all given areas.
+     */
+    public boolean isWorkingDay(long epochDay, AdministrativeArea... areas) {
+        return index().isWorkingDay(epochDay, areas);
+    }
+
+    /**
+     * @param date  a date within the time period covered by the calendar.
+     * @param selector the precompiled administrative areas for which the given date shall be checked.
+     * @return true: the given date is a working day in all selected areas.
+     */
+    public boolean isWorkingDay(LocalDate date, AreaSelector selector) {
+        if (date == null) {
+            throw new IllegalArgumentException("Unable to determine working day for a date of null");
+        }
+        return isWorkingDay(date.toEpochDay(), selector);
+    }
+
+    /**
+     * Same as {@link #isWorkingDay(LocalDate, AreaSelector)} for a day given as epoch day, which does not create any
+     * {@link LocalDate}.
+     * @param epochDay a day within the time period covered by the calendar, see {@link LocalDate#toEpochDay()}.
+     * @param selector the precompiled administrative areas for which the given day shall be checked.
+     * @return true: the given day is a working day in all selected areas.
+     */
+    public boolean isWorkingDay(long epochDay, AreaSelector selector) {
+        return workingDays(index(), selector).isWorkingDay(epochDay);
     }
 
     /**
      * @param date  a date within the time period covered by the calendar.
-     * @return true: the given date is a saturday or a sunday.
+     * @return true: the given date is a saturday or a sunday. The weekend of a specific calendar is given by
+     * {@link #getWeekend()}.
      */
     public static boolean isWeekend(LocalDate date) {
         if (date == null) {
@@ -113,51 +380,553 @@ public class HolidayCalendar {
         return dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY;
     }
 
+    /**
+     * @param epochDay a day given as epoch day, see {@link LocalDate#toEpochDay()}.
+     * @return true: the given day is a saturday or a sunday. The weekend of a specific calendar is given by
+     * {@link #getWeekend()}.
+     */
+    public static boolean isWeekend(long epochDay) {
+        return WorkingDays.isWeekend(epochDay);
+    }
+
+    /**
+     * Classifies a batch of dates. The areas are resolved once for the whole batch and large batches are classified
+     * in parallel.
+     * @param dates the dates to be checked.
+     * @param areas optional administrative areas for which the given dates shall be checked.
+     * @return an array in which the element at position i is true if the date at position i is a public holiday
+     * according to {@link #isHoliday(LocalDate, AdministrativeArea...)}.
+     */
+    public boolean[] areHolidays(LocalDate[] dates, AdministrativeArea... areas) {
+        if (dates == null) {
+            throw new IllegalArgumentException("Unable to determine holidays for dates of null");
+        }
+        WorkingDays workingDays = index().workingDays(areas);
+        return classify(dates.length, i -> workingDays.isHoliday(toEpochDay(dates[i])));
+    }
+
+    /**
+     * Classifies a batch of days given as epoch days. The areas are resolved once for the whole batch and large
+     * batches are classified in parallel.
+     * @param epochDays the days to be checked, see {@link LocalDate#toEpochDay()}.
+     * @param areas optional administrative areas for which the given days shall be checked.
+     * @return an array in which the element at position i is true if the day at position i is a public holiday
+     * according to {@link #isHoliday(LocalDate, AdministrativeArea...)}.
+     */
+    public boolean[] areHolidays(long[] epochDays, AdministrativeArea... areas) {
+        if (epochDays == null) {
+            throw new IllegalArgumentException("Unable to determine holidays for days of null");
+        }
+        WorkingDays workingDays = index().workingDays(areas);
+        return classify(epochDays.length, i -> workingDays.isHoliday(epochDays[i]));
+    }
+
+    /**
+     * Classifies a batch of dates. The areas are resolved once for the whole batch and large batches are classified
+     * in parallel.
+     * @param dates the dates to be checked.
+     * @param areas optional administrative areas for which the given dates shall be checked.
+     * @return an array in which the element at position i is true if the date at position i is a working day
+     * according to {@link #isWorkingDay(LocalDate, AdministrativeArea...)}.
+     */
+    public boolean[] areWorkingDays(LocalDate[] dates, AdministrativeArea... areas) {
+        if (dates == null) {
+            throw new IllegalArgumentException("Unable to determine working days for dates of null");
+        }
+        WorkingDays workingDays = index().workingDays(areas);
+        return classify(dates.length, i -> workingDays.isWorkingDay(toEpochDay(dates[i])));
+    }
+
+    /**
+     * Classifies a batch of days given as epoch days. The areas are resolved once for the whole batch and large
+     * batches are classified in parallel.
+     * @param epochDays the days to be checked, see {@link LocalDate#toEpochDay()}.
+     * @param areas optional administrative areas for which the given days shall be checked.
+     * @return an array in which the element at position i is true if the day at position i is a working day
+     * according to {@link #isWorkingDay(LocalDate, AdministrativeArea...)}.
+     */
+    public boolean[] areWorkingDays(long[] epochDays, AdministrativeArea... areas) {
+        if (epochDays == null) {
+            throw new IllegalArgumentException("Unable to determine working days for days of null");
+        }
+        WorkingDays workingDays = index().workingDays(areas);
+        return classify(epochDays.length, i -> workingDays.isWorkingDay(epochDays[i]));
+    }
+
+    /**
+     * @param dates a stream of dates, which may be parallel.
+     * @param areas optional administrative areas whose holidays shall be considered.
+     * @return a stream of those given dates which are public holidays. The areas are resolved once for the whole
+     * stream.
+     */
+    public Stream<LocalDate> filterHolidays(Stream<LocalDate> dates, AdministrativeArea... areas) {
+        WorkingDays workingDays = index().workingDays(areas);
+        return dates.filter(date -> workingDays.isHoliday(toEpochDay(date)));
+    }
+
+    /**
+     * @param dates a stream of dates, which may be parallel.
+     * @param areas optional administrative areas whose holidays shall be considered.
+     * @return a stream of those given dates which are working days. The areas are resolved once for the whole
+     * stream.
+     */
+    public Stream<LocalDate> filterWorkingDays(Stream<LocalDate> dates, AdministrativeArea... areas) {
+        WorkingDays workingDays = index().workingDays(areas);
+        return dates.filter(date -> workingDays.isWorkingDay(toEpochDay(date)));
+    }
+
+    private static long toEpochDay(LocalDate date) {
+        if (date == null) {
+            throw new IllegalArgumentException("Unable to classify a date of null");
+        }
+        return date.toEpochDay();
+    }
+
+    private static boolean[] classify(int size, IntPredicate predicate) {
+        boolean[] result = new boolean[size];
+        IntStream positions = IntStream.range(0, size);
+        if (size >= PARALLEL_THRESHOLD) {
+            positions = positions.parallel();
+        }
+        positions.forEach(i -> result[i] = predicate.test(i));
+        return result;
+    }
+
     /**
      * @param date  a date within the time period covered by the calendar.
      * @param areas optional administrative areas for which the next working day shall be calculated.
      * @return the next working day on or after the given date within the time period covered by the calendar.
      */
     public Optional<LocalDate> getNextWorkingDay(LocalDate date, AdministrativeArea... areas) {
-        if (date.isBefore(periodStart)) {
+        long workingDay = nextWorkingDay(date.toEpochDay(), areas);
+        return workingDay == NO_WORKING_DAY ? Optional.empty() : Optional.of(LocalDate.ofEpochDay(workingDay));
+    }
+
+    /**
+     * @param date  a date within the time period covered by the calendar.
+     * @param selector the precompiled administrative areas for which the next working day shall be calculated.
+     * @return the next working day on or after the given date within the time period covered by the calendar.
+     */
+    public Optional<LocalDate> getNextWorkingDay(LocalDate date, AreaSelector selector) {
+        long workingDay = nextWorkingDay(date.toEpochDay(), selector);
+        return workingDay == NO_WORKING_DAY ? Optional.empty() : Optional.of(LocalDate.ofEpochDay(workingDay));
+    }
+
+    /**
+     * @param date a date within the time period covered by the calendar.
+     * @param workingDays the number of working days to be added, may be negative.
+     * @param areas optional administrative areas whose holidays shall be considered.
+     * @return the date which lies the given number of working days after the given date, the given date itself if
+     * the number of working days is zero or empty if the given date or the result lies outside the time period
+     * covered by the calendar.
+     */
+    public Optional<LocalDate> plusWorkingDays(LocalDate date, int workingDays, AdministrativeArea... areas) {
+        HolidayIndex current = index();
+        return shiftWorkingDays(current, current.workingDays(areas), date, workingDays);
+    }
+
+    /**
+     * @param date a date within the time period covered by the calendar.
+     * @param workingDays the number of working days to be added, may be negative.
+     * @param selector the precompiled administrative areas whose holidays shall be considered.
+     * @return the date which lies the given number of working days after the given date, the given date itself if
+     * the number of working days is zero or empty if the given date or the result lies outside the time period
+     * covered by the calendar.
+     */
+    public Optional<LocalDate> plusWorkingDays(LocalDate date, int workingDays, AreaSelector selector) {
+        HolidayIndex current = index();
+        return shiftWorkingDays(current, workingDays(current, selector), date, workingDays);
+    }
+
+    /**
+     * @param date a date within the time period covered by the calendar.
+     * @param workingDays the number of working days to be subtracted, may be negative.
+     * @param areas optional administrative areas whose holidays shall be considered.
+     * @return the date which lies the given number of working days before the given date, the given date itself if
+     * the number of working days is zero or empty if the given date or the result lies outside the time period
+     * covered by the calendar.
+     */
+    public Optional<LocalDate> minusWorkingDays(LocalDate date, int workingDays, AdministrativeArea... areas) {
+        HolidayIndex current = index();
+        return shiftWorkingDays(current, current.workingDays(areas), date, -(long) workingDays);
+    }
+
+    /**
+     * @param date a date within the time period covered by the calendar.
+     * @param workingDays the number of working days to be subtracted, may be negative.
+     * @param selector the precompiled administrative areas whose holidays shall be considered.
+     * @return the date which lies the given number of working days before the given date, the given date itself if
+     * the number of working days is zero or empty if the given date or the result lies outside the time period
+     * covered by the calendar.
+     */
+    public Optional<LocalDate> minusWorkingDays(LocalDate date, int workingDays, AreaSelector selector) {
+        HolidayIndex current = index();
+        return shiftWorkingDays(current, workingDays(current, selector), date, -(long) workingDays);
+    }
+
+    private static Optional<LocalDate> shiftWorkingDays(HolidayIndex current, WorkingDays table, LocalDate date, long workingDays) {
+        if (date == null) {
+            throw new IllegalArgumentException("Unable to add working days to a date of null");
+        }
+        int offset = current.offsetOf(date.toEpochDay());
+        if (offset < 0) {
             return Optional.empty();
         }
-        LocalDate testedDate = date;
-        while (!testedDate.isAfter(periodEnd)) {
-            if (isWorkingDay(testedDate, areas)) {
-                return Optional.of(testedDate);
-            }
-            testedDate = testedDate.plusDays(1);
+        int result = table.shift(offset, workingDays);
+        return result < 0 ? Optional.empty() : Optional.of(current.dateAt(result));
+    }
+
+    /**
+     * @param from the first date of the interval, inclusive.
+     * @param to the last date of the interval, inclusive.
+     * @param areas optional administrative areas whose holidays shall be considered.
+     * @return the number of working days between both dates.
+     */
+    public int countWorkingDays(LocalDate from, LocalDate to, AdministrativeArea... areas) {
+        HolidayIndex current = index();
+        return countWorkingDays(current, current.workingDays(areas), from, to);
+    }
+
+    /**
+     * @param from the first date of the interval, inclusive.
+     * @param to the last date of the interval, inclusive.
+     * @param selector the precompiled administrative areas whose holidays shall be considered.
+     * @return the number of working days between both dates.
+     */
+    public int countWorkingDays(LocalDate from, LocalDate to, AreaSelector selector) {
+        HolidayIndex current = index();
+        return countWorkingDays(current, workingDays(current, selector), from, to);
+    }
+
+    private int countWorkingDays(HolidayIndex current, WorkingDays table, LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Unable to count working days for a date of null");
+        }
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("Unable to count working days if the end " + to + " is before the beginning " + from);
+        }
+        int fromOffset = current.offsetOf(from.toEpochDay());
+        int toOffset = current.offsetOf(to.toEpochDay());
+        if (fromOffset < 0 || toOffset < 0) {
+            throw new IllegalArgumentException("Unable to count working days outside of the period between " + periodStart + " and " + periodEnd);
+        }
+        return table.count(fromOffset, toOffset);
+    }
+
+    /**
+     * Same as {@link #getNextWorkingDay(LocalDate, AdministrativeArea...)} for a day given as epoch day, which does
+     * not create any {@link LocalDate} or {@link Optional}.
+     * @param epochDay a day within the time period covered by the calendar, see {@link LocalDate#toEpochDay()}.
+     * @param areas optional administrative areas for which the next working day shall be calculated.
+     * @return the next working day on or after the given day within the time period covered by the calendar as
+     * epoch day or {@link #NO_WORKING_DAY} if there is none.
+     */
+    public long nextWorkingDay(long epochDay, AdministrativeArea... areas) {
+        HolidayIndex current = index();
+        return nextWorkingDay(current, current.workingDays(areas), epochDay);
+    }
+
+    /**
+     * Same as {@link #getNextWorkingDay(LocalDate, AreaSelector)} for a day given as epoch day, which does not
+     * create any {@link LocalDate} or {@link Optional}.
+     * @param epochDay a day within the time period covered by the calendar, see {@link LocalDate#toEpochDay()}.
+     * @param selector the precompiled administrative areas for which the next working day shall be calculated.
+     * @return the next working day on or after the given day within the time period covered by the calendar as
+     * epoch day or {@link #NO_WORKING_DAY} if there is none.
+     */
+    public long nextWorkingDay(long epochDay, AreaSelector selector) {
+        HolidayIndex current = index();
+        return nextWorkingDay(current, workingDays(current, selector), epochDay);
+    }
+
+    private static long nextWorkingDay(HolidayIndex current, WorkingDays table, long epochDay) {
+        int offset = current.offsetOf(epochDay);
+        int next = offset < 0 ? -1 : table.next(offset);
+        return next < 0 ? NO_WORKING_DAY : current.epochDayAt(next);
+    }
+
+    /**
+     * @param date  a date within the time period covered by the calendar.
+     * @param areas optional administrative areas for which the previous working day shall be calculated.
+     * @return the previous working day on or before the given date within the time period covered by the calendar.
+     */
+    public Optional<LocalDate> getPreviousWorkingDay(LocalDate date, AdministrativeArea... areas) {
+        if (date == null) {
+            throw new IllegalArgumentException("Unable to determine working day for a date of null");
+        }
+        long workingDay = previousWorkingDay(date.toEpochDay(), areas);
+        return workingDay == NO_WORKING_DAY ? Optional.empty() : Optional.of(LocalDate.ofEpochDay(workingDay));
+    }
+
+    /**
+     * @param date  a date within the time period covered by the calendar.
+     * @param selector the precompiled administrative areas for which the previous working day shall be calculated.
+     * @return the previous working day on or before the given date within the time period covered by the calendar.
+     */
+    public Optional<LocalDate> getPreviousWorkingDay(LocalDate date, AreaSelector selector) {
+        if (date == null) {
+            throw new IllegalArgumentException("Unable to determine working day for a date of null");
+        }
+        long workingDay = previousWorkingDay(date.toEpochDay(), selector);
+        return workingDay == NO_WORKING_DAY ? Optional.empty() : Optional.of(LocalDate.ofEpochDay(workingDay));
+    }
+
+    /**
+     * Same as {@link #getPreviousWorkingDay(LocalDate, AdministrativeArea...)} for a day given as epoch day, which
+     * does not create any {@link LocalDate} or {@link Optional}.
+     * @param epochDay a day within the time period covered by the calendar, see {@link LocalDate#toEpochDay()}.
+     * @param areas optional administrative areas for which the previous working day shall be calculated.
+     * @return the previous working day on or before the given day within the time period covered by the calendar as
+     * epoch day or {@link #NO_WORKING_DAY} if there is none.
+     */
+    public long previousWorkingDay(long epochDay, AdministrativeArea... areas) {
+        HolidayIndex current = index();
+        return previousWorkingDay(current, current.workingDays(areas), epochDay);
+    }
+
+    /**
+     * Same as {@link #getPreviousWorkingDay(LocalDate, AreaSelector)} for a day given as epoch day, which does not
+     * create any {@link LocalDate} or {@link Optional}.
+     * @param epochDay a day within the time period covered by the calendar, see {@link LocalDate#toEpochDay()}.
+     * @param selector the precompiled administrative areas for which the previous working day shall be calculated.
+     * @return the previous working day on or before the given day within the time period covered by the calendar as
+     * epoch day or {@link #NO_WORKING_DAY} if there is none.
+     */
+    public long previousWorkingDay(long epochDay, AreaSelector selector) {
+        HolidayIndex current = index();
+        return previousWorkingDay(current, workingDays(current, selector), epochDay);
+    }
+
+    private static long previousWorkingDay(HolidayIndex current, WorkingDays table, long epochDay) {
+        int offset = current.offsetOf(epochDay);
+        int previous = offset < 0 ? -1 : table.previous(offset);
+        return previous < 0 ? NO_WORKING_DAY : current.epochDayAt(previous);
+    }
+
+    /**
+     * @param date a date within the time period covered by the calendar.
+     * @param convention the convention by which a date which is not a working day is moved.
+     * @param areas optional administrative areas whose holidays shall be considered.
+     * @return the given date if it is a working day, otherwise the working day determined by the convention. Empty
+     * if the given date or the result lies outside the time period covered by the calendar.
+     */
+    public Optional<LocalDate> adjust(LocalDate date, BusinessDayConvention convention, AdministrativeArea... areas) {
+        HolidayIndex current = index();
+        return adjust(current, current.workingDays(areas), date, convention);
+    }
+
+    /**
+     * @param date a date within the time period covered by the calendar.
+     * @param convention the convention by which a date which is not a working day is moved.
+     * @param selector the precompiled administrative areas whose holidays shall be considered.
+     * @return the given date if it is a working day, otherwise the working day determined by the convention. Empty
+     * if the given date or the result lies outside the time period covered by the calendar.
+     */
+    public Optional<LocalDate> adjust(LocalDate date, BusinessDayConvention convention, AreaSelector selector) {
+        HolidayIndex current = index();
+        return adjust(current, workingDays(current, selector), date, convention);
+    }
+
+    private static Optional<LocalDate> adjust(HolidayIndex current, WorkingDays table, LocalDate date, BusinessDayConvention convention) {
+        if (date == null) {
+            throw new IllegalArgumentException("Unable to adjust a date of null");
+        }
+        if (convention == null) {
+            throw new IllegalArgumentException("Unable to adjust a date without business day convention");
+        }
+        int offset = current.offsetOf(date.toEpochDay());
+        if (offset < 0) {
+            return Optional.empty();
+        }
+        int result;
+        switch (convention) {
+            case FOLLOWING:
+                result = table.next(offset);
+                break;
+            case MODIFIED_FOLLOWING:
+                result = table.next(offset);
+                if (result >= 0 && !isSameMonth(current.dateAt(result), date)) {
+                    result = table.previous(offset);
+                }
+                break;
+            case PRECEDING:
+                result = table.previous(offset);
+                break;
+            case MODIFIED_PRECEDING:
+                result = table.previous(offset);
+                if (result >= 0 && !isSameMonth(current.dateAt(result), date)) {
+                    result = table.next(offset);
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported business day convention " + convention);
+        }
+        return result < 0 ? Optional.empty() : Optional.of(current.dateAt(result));
+    }
+
+    private static boolean isSameMonth(LocalDate date, LocalDate other) {
+        return date.getMonth() == other.getMonth() && date.getYear() == other.getYear();
+    }
+
+    /**
+     * @param month a month whose last day lies within the time period covered by the calendar.
+     * @param areas optional administrative areas whose holidays shall be considered.
+     * @return the last working day of the given month or empty if the month has no working day within the time
+     * period covered by the calendar.
+     */
+    public Optional<LocalDate> getLastWorkingDayOfMonth(YearMonth month, AdministrativeArea... areas) {
+        HolidayIndex current = index();
+        return getLastWorkingDayOfMonth(current, current.workingDays(areas), month);
+    }
+
+    /**
+     * @param month a month whose last day lies within the time period covered by the calendar.
+     * @param selector the precompiled administrative areas whose holidays shall be considered.
+     * @return the last working day of the given month or empty if the month has no working day within the time
+     * period covered by the calendar.
+     */
+    public Optional<LocalDate> getLastWorkingDayOfMonth(YearMonth month, AreaSelector selector) {
+        HolidayIndex current = index();
+        return getLastWorkingDayOfMonth(current, workingDays(current, selector), month);
+    }
+
+    private static Optional<LocalDate> getLastWorkingDayOfMonth(HolidayIndex current, WorkingDays table, YearMonth month) {
+        if (month == null) {
+            throw new IllegalArgumentException("Unable to determine working day for a month of null");
+        }
+        LocalDate endOfMonth = month.atEndOfMonth();
+        int offset = current.offsetOf(endOfMonth.toEpochDay());
+        if (offset < 0) {
+            return Optional.empty();
+        }
+        int result = table.previous(offset);
+        if (result < 0 || result <= offset - endOfMonth.getDayOfMonth()) {
+            return Optional.empty();
         }
-        return Optional.empty();
+        return Optional.of(current.dateAt(result));
+    }
+
+    private static WorkingDays workingDays(HolidayIndex current, AreaSelector selector) {
+        if (selector == null) {
+            throw new IllegalArgumentException("Unable to select the areas by a selector of null");
+        }
+        return current.workingDays(selector);
     }
 
     /**
-     * @return all concrete holidays within the time period covered by the calendar.
+     * @return all concrete holidays within the time period covered by the calendar as an unmodifiable map, which
+     * iterates in the order of the dates. If several holidays fall on the same date, the map holds the holiday added
+     * last; use {@link #getHolidaysOn(LocalDate)} to get all of them.
      */
     public Map<LocalDate, Holiday> getHolidays() {
-        return holidays;
+        return index().toMap();
     }
 
-    public static class Builder {
+    /**
+     * @param date a date within the time period covered by the calendar.
+     * @return all holidays falling on the given date in the order they were added, regardless of their administrative
+     * areas. The list is empty if there is no holiday or the date lies outside the time period.
+     */
+    public List<Holiday> getHolidaysOn(LocalDate date) {
+        if (date == null) {
+            throw new IllegalArgumentException("Unable to determine holidays for a date of null");
+        }
+        HolidayIndex current = index();
+        int offset = current.offsetOf(date.toEpochDay());
+        return offset < 0 ? Collections.emptyList() : current.holidaysAt(offset);
+    }
 
-        private final HolidayCalendar holidayCalendar;
-        private HolidayCalendarConfigurer configurer;
+    /**
+     * @param from the first date of the interval, inclusive.
+     * @param to the last date of the interval, inclusive.
+     * @param areas optional administrative areas whose holidays shall be included. If no areas are specified, only
+     * nationwide holidays are returned.
+     * @return all holidays within the interval ordered by date. Dates outside the time period covered by the calendar
+     * are ignored.
+     */
+    public List<ConcreteHoliday> getHolidaysBetween(LocalDate from, LocalDate to, AdministrativeArea... areas) {
+        return streamHolidays(from, to, areas).collect(Collectors.toList());
+    }
+
+    /**
+     * @param from the first date of the interval, inclusive.
+     * @param to the last date of the interval, inclusive.
+     * @param selector the precompiled administrative areas whose holidays shall be included.
+     * @return all holidays within the interval ordered by date. Dates outside the time period covered by the calendar
+     * are ignored.
+     */
+    public List<ConcreteHoliday> getHolidaysBetween(LocalDate from, LocalDate to, AreaSelector selector) {
+        return streamHolidays(from, to, selector).collect(Collectors.toList());
+    }
+
+    /**
+     * Same as {@link #getHolidaysBetween(LocalDate, LocalDate, AdministrativeArea...)}, but the holidays are
+     * delivered lazily.
+     * @param from the first date of the interval, inclusive.
+     * @param to the last date of the interval, inclusive.
+     * @param areas optional administrative areas whose holidays shall be included.
+     * @return a stream of all holidays within the interval ordered by date.
+     */
+    public Stream<ConcreteHoliday> streamHolidays(LocalDate from, LocalDate to, AdministrativeArea... areas) {
+        return streamHolidays(from, to, AreaSelector.of(areas));
+    }
 
-        private Builder() {
-            this(new HolidayCalendar());
+    /**
+     * Same as {@link #getHolidaysBetween(LocalDate, LocalDate, AreaSelector)}, but the holidays are delivered
+     * lazily.
+     * @param from the first date of the interval, inclusive.
+     * @param to the last date of the interval, inclusive.
+     * @param selector the precompiled administrative areas whose holidays shall be included.
+     * @return a stream of all holidays within the interval ordered by date.
+     */
+    public Stream<ConcreteHoliday> streamHolidays(LocalDate from, LocalDate to, AreaSelector selector) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Unable to determine holidays for a date of null");
+        }
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("Unable to determine holidays if the end " + to + " is before the beginning " + from);
         }
+        if (selector == null) {
+            throw new IllegalArgumentException("Unable to select the areas by a selector of null");
+        }
+        return index().occurrences(from.toEpochDay(), to.toEpochDay(), selector);
+    }
 
-        private Builder(HolidayCalendar holidayCalendar) {
-            this.holidayCalendar = holidayCalendar;
+    /**
+     * @return the compiled form of the holidays, which is recompiled after holidays have been added.
+     */
+    HolidayIndex index() {
+        if (frozenIndex != null) {
+            return frozenIndex;
+        }
+        HolidayIndex current = index;
+        if (current == null) {
+            synchronized (this) {
+                current = index;
+                if (current == null) {
+                    current = HolidayIndex.compile(periodStart, periodEnd, holidays, weekends);
+                    index = current;
+                }
+            }
         }
+        return current;
+    }
+
+    public static class Builder {
+
+        private LocalDate periodStart;
+        private LocalDate periodEnd;
+        private HolidayCalendarConfigurer configurer;
+        private boolean frozen;
+
+        private Builder() {}
 
         /**
          * @param start the beginning of the period of time for which the calendar will be created.
          * @return the Builder instance
          */
         public Builder periodStart(LocalDate start) {
-            holidayCalendar.periodStart = start;
+            this.periodStart = start;
             return this;
         }
 
@@ -166,7 +935,7 @@ public class HolidayCalendar {
          * @return the Builder instance
          */
         public Builder periodEnd(LocalDate end) {
-            holidayCalendar.periodEnd = end;
+            this.periodEnd = end;
             return this;
         }
 
@@ -181,6 +950,19 @@ public class HolidayCalendar {
             return this;
         }
 
+        /**
+         * Calculates a time period of January, 1 of the first year to December, 31 of the last year for which the
+         * calendar will be created.
+         * @param firstYear the first year covered by the calendar.
+         * @param lastYear the last year covered by the calendar.
+         * @return the Builder instance
+         */
+        public Builder forYears(int firstYear, int lastYear) {
+            this.periodStart(LocalDate.of(firstYear, 1, 1));
+            this.periodEnd(LocalDate.of(lastYear, 12, 31));
+            return this;
+        }
+
         /**
          * Calculates a period of one year beginning on the given date for which the calendar will be created.
          * @param begin the beginning of the period of time for which the calendar will be created.
@@ -201,26 +983,37 @@ public class HolidayCalendar {
             return this;
         }
 
+        /**
+         * The calendar will be frozen after it has been configured, see {@link HolidayCalendar#freeze()}.
+         * @return the Builder instance
+         */
+        public Builder frozen() {
+            this.frozen = true;
+            return this;
+        }
+
         /**
          * @return the new instance of HolidayCalendar.
          */
         public HolidayCalendar build() {
-            if (holidayCalendar.periodStart == null) {
+            if (periodStart == null) {
                 throw new IllegalStateException("The beginning of the period in a holiday calendar must not be null");
             }
-            if (holidayCalendar.periodEnd == null) {
+            if (periodEnd == null) {
                 throw new IllegalStateException("The end of the period in a holiday calendar must not be null");
             }
-            if (holidayCalendar.periodEnd.isBefore(holidayCalendar.periodStart)) {
+            if (periodEnd.isBefore(periodStart)) {
                 throw new IllegalStateException("The end of the period in a holiday calendar must not be earlier than the beginning");
             }
-            if (holidayCalendar.periodEnd.isAfter(holidayCalendar.periodStart.plusYears(1))) {
-                throw new IllegalStateException("The length of the period in a holiday calendar has to be maximal 1 year");
+            if (periodEnd.toEpochDay() - periodStart.toEpochDay() >= Integer.MAX_VALUE) {
+                throw new IllegalStateException("The length of the period in a holiday calendar must be less than " + Integer.MAX_VALUE + " days");
             }
+            HolidayCalendar holidayCalendar = new HolidayCalendar(periodStart, periodEnd);
             if (configurer != null) {
                 configurer.configure(holidayCalendar);
             }
-            return holidayCalendar;
+            holidayCalendar.index();
+            return frozen ? holidayCalendar.freeze() : holidayCalendar;
         }
 
     }
@@ -0,0 +1,195 @@
+package org.nordicthings.commons.holiday;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Precomputes the calendars of a configurer for a range of years together with the working days of a set of
+ * administrative areas, e.g. all German federal states for the next 50 years at the start of a service.
+ * <p>
+ * The holidays are resolved once for the whole range. The calendars of the single years take over the resolved
+ * occurrences of their year instead of resolving them again, and the working days of every combination of year and
+ * area are compiled in parallel. All calendars are frozen, so that the batch can be shared between threads.
+ */
+public final class HolidayCalendarBatch {
+
+    private final int firstYear;
+    private final HolidayCalendar calendar;
+    private final HolidayCalendar[] calendars;
+    private final Map<AdministrativeArea, AreaSelector> selectors;
+
+    private HolidayCalendarBatch(int firstYear, HolidayCalendar calendar, HolidayCalendar[] calendars,
+                                 Map<AdministrativeArea, AreaSelector> selectors) {
+        this.firstYear = firstYear;
+        this.calendar = calendar;
+        this.calendars = calendars;
+        this.selectors = selectors;
+    }
+
+    /**
+     * @return a Builder to create a new instance of HolidayCalendarBatch
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the first year covered by the batch.
+     */
+    public int getFirstYear() {
+        return firstYear;
+    }
+
+    /**
+     * @return the last year covered by the batch.
+     */
+    public int getLastYear() {
+        return firstYear + calendars.length - 1;
+    }
+
+    /**
+     * @return the precomputed areas in the order they were added.
+     */
+    public Set<AdministrativeArea> getAreas() {
+        return selectors.keySet();
+    }
+
+    /**
+     * @return the frozen calendar covering all years of the batch.
+     */
+    public HolidayCalendar getCalendar() {
+        return calendar;
+    }
+
+    /**
+     * @param year a year covered by the batch
+     * @return the frozen calendar of the given year.
+     */
+    public HolidayCalendar getCalendar(int year) {
+        if (year < firstYear || year > getLastYear()) {
+            throw new IllegalArgumentException("The year " + year + " is not covered by the batch of the years " + firstYear + " to " + getLastYear());
+        }
+        return calendars[year - firstYear];
+    }
+
+    /**
+     * @param area a precomputed area
+     * @return the selector of the area, whose working days have been compiled for every calendar of the batch.
+     */
+    public AreaSelector getSelector(AdministrativeArea area) {
+        AreaSelector selector = selectors.get(area);
+        if (selector == null) {
+            throw new IllegalArgumentException("The area " + area + " has not been precomputed by the batch");
+        }
+        return selector;
+    }
+
+    public static class Builder {
+
+        private Integer firstYear;
+        private Integer lastYear;
+        private HolidayCalendarConfigurer configurer;
+        private final Set<AdministrativeArea> areas = new LinkedHashSet<>();
+        private ForkJoinPool pool = ForkJoinPool.commonPool();
+
+        private Builder() {}
+
+        /**
+         * @param firstYear the first year covered by the batch.
+         * @param lastYear the last year covered by the batch.
+         * @return the Builder instance
+         */
+        public Builder forYears(int firstYear, int lastYear) {
+            this.firstYear = firstYear;
+            this.lastYear = lastYear;
+            return this;
+        }
+
+        /**
+         * @param configurer the configurer which configures the holidays of the calendars
+         * @return the Builder instance
+         */
+        public Builder configurer(HolidayCalendarConfigurer configurer) {
+            this.configurer = configurer;
+            return this;
+        }
+
+        /**
+         * @param areas the administrative areas whose working days shall be precomputed in addition to the
+         *              nationwide ones
+         * @return the Builder instance
+         */
+        public Builder areas(AdministrativeArea... areas) {
+            return areas(Arrays.asList(areas));
+        }
+
+        /**
+         * @param areas the administrative areas whose working days shall be precomputed in addition to the
+         *              nationwide ones
+         * @return the Builder instance
+         */
+        public Builder areas(Collection<? extends AdministrativeArea> areas) {
+            for (AdministrativeArea area : areas) {
+                if (area == null) {
+                    throw new IllegalArgumentException("A batch of holiday calendars must not contain an area of null");
+                }
+                this.areas.add(area);
+            }
+            return this;
+        }
+
+        /**
+         * @param pool the pool which compiles the working days, the common pool by default
+         * @return the Builder instance
+         */
+        public Builder pool(ForkJoinPool pool) {
+            this.pool = pool;
+            return this;
+        }
+
+        /**
+         * @return the new instance of HolidayCalendarBatch.
+         */
+        public HolidayCalendarBatch build() {
+            if (firstYear == null || lastYear == null) {
+                throw new IllegalStateException("The years of a batch of holiday calendars must not be null");
+            }
+            if (lastYear < firstYear) {
+                throw new IllegalStateException("The last year " + lastYear + " is before the first year " + firstYear);
+            }
+            if (configurer == null || pool == null) {
+                throw new IllegalStateException("The configurer and the pool of a batch of holiday calendars must not be null");
+            }
+            HolidayCalendar calendar = HolidayCalendar.builder()
+                    .forYears(firstYear, lastYear)
+                    .configurer(configurer)
+                    .frozen()
+                    .build();
+            int first = firstYear;
+            HolidayCalendar[] calendars = new HolidayCalendar[lastYear - first + 1];
+            Map<AdministrativeArea, AreaSelector> selectors = new LinkedHashMap<>();
+            List<AreaSelector> compiled = new ArrayList<>();
+            compiled.add(AreaSelector.nationwide());
+            for (AdministrativeArea area : areas) {
+                AreaSelector selector = AreaSelector.of(area);
+                selectors.put(area, selector);
+                compiled.add(selector);
+            }
+            // every task slices one year and compiles the working days of all areas for it
+            pool.submit(() -> IntStream.rangeClosed(-1, calendars.length - 1).parallel().forEach(i -> {
+                HolidayCalendar target = i < 0 ? calendar
+                        : calendar.slice(LocalDate.of(first + i, 1, 1), LocalDate.of(first + i, 12, 31));
+                for (AreaSelector selector : compiled) {
+                    target.index().workingDays(selector);
+                }
+                if (i >= 0) {
+                    calendars[i] = target;
+                }
+            })).join();
+            return new HolidayCalendarBatch(first, calendar, calendars, Collections.unmodifiableMap(selectors));
+        }
+    }
+
+}
@@ -0,0 +1,283 @@
+package org.nordicthings.commons.holiday;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A bounded cache of frozen {@link HolidayCalendar}s, keyed by configurer and period. Entries are evicted in
+ * least-recently-used order once the maximum size is reached and optionally expire a fixed time after they have been
+ * created.
+ * <p>
+ * Configurers are compared by {@link Object#equals(Object)}, so a configurer should either be reused or implement
+ * {@code equals} and {@code hashCode}. Since a calendar always holds the holidays of all administrative areas, the
+ * areas are not part of the key. All methods are thread-safe.
+ */
+public class HolidayCalendarCache {
+
+    private static final HolidayCalendarCache SHARED = builder().build();
+
+    private final int maximumSize;
+    private final Duration expireAfterWrite;
+    private final Clock clock;
+    private final Map<Key, Entry> entries;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    private HolidayCalendarCache(int maximumSize, Duration expireAfterWrite, Clock clock) {
+        this.maximumSize = maximumSize;
+        this.expireAfterWrite = expireAfterWrite;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                if (size() > HolidayCalendarCache.this.maximumSize) {
+                    evictionCount++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * @return a Builder to create a new instance of HolidayCalendarCache
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return a cache shared by the whole application, which holds up to {@value Builder#DEFAULT_MAXIMUM_SIZE}
+     * calendars and never expires them.
+     */
+    public static HolidayCalendarCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * @param configurer the configurer of the calendar
+     * @param year the year covered by the calendar
+     * @return the cached calendar for January, 1 to December, 31 of the given year, which is built if necessary
+     */
+    public HolidayCalendar get(HolidayCalendarConfigurer configurer, int year) {
+        return get(configurer, LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31));
+    }
+
+    /**
+     * @param configurer the configurer of the calendar
+     * @param periodStart the beginning of the period covered by the calendar
+     * @param periodEnd the end of the period covered by the calendar
+     * @return the cached calendar for the given period, which is built if necessary
+     */
+    public HolidayCalendar get(HolidayCalendarConfigurer configurer, LocalDate periodStart, LocalDate periodEnd) {
+        if (configurer == null) {
+            throw new IllegalArgumentException("Unable to cache a holiday calendar without configurer");
+        }
+        Key key = new Key(configurer, periodStart, periodEnd);
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null && !isExpired(entry)) {
+                hitCount++;
+                return entry.calendar;
+            }
+            if (entry != null) {
+                entries.remove(key);
+                evictionCount++;
+            }
+            missCount++;
+        }
+        // built outside of the lock, so that a slow configurer does not block the readers of other calendars
+        HolidayCalendar calendar = HolidayCalendar.builder()
+                .periodStart(periodStart)
+                .periodEnd(periodEnd)
+                .configurer(configurer)
+                .frozen()
+                .build();
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null && !isExpired(entry)) {
+                return entry.calendar;
+            }
+            entries.put(key, new Entry(calendar, clock.millis()));
+            return calendar;
+        }
+    }
+
+    /**
+     * @return the number of calendars currently held by the cache, including expired ones not yet removed.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Removes all calendars from the cache. The statistics are kept.
+     */
+    public synchronized void invalidateAll() {
+        entries.clear();
+    }
+
+    /**
+     * @return a snapshot of the hit and miss statistics.
+     */
+    public synchronized Statistics getStatistics() {
+        return new Statistics(hitCount, missCount, evictionCount);
+    }
+
+    private boolean isExpired(Entry entry) {
+        return expireAfterWrite != null && clock.millis() - entry.createdMillis >= expireAfterWrite.toMillis();
+    }
+
+    /**
+     * Immutable snapshot of the statistics of a {@link HolidayCalendarCache}.
+     */
+    public static final class Statistics {
+
+        private final long hitCount;
+        private final long missCount;
+        private final long evictionCount;
+
+        private Statistics(long hitCount, long missCount, long evictionCount) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.evictionCount = evictionCount;
+        }
+
+        /**
+         * @return the number of requests answered by a cached calendar.
+         */
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        /**
+         * @return the number of requests that caused a calendar to be built.
+         */
+        public long getMissCount() {
+            return missCount;
+        }
+
+        /**
+         * @return the number of calendars removed because of the size limit or because they expired.
+         */
+        public long getEvictionCount() {
+            return evictionCount;
+        }
+
+        /**
+         * @return the ratio of hits to all requests or 1.0 if there were no requests.
+         */
+        public double getHitRate() {
+            long requestCount = hitCount + missCount;
+            return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+        }
+
+        @Override
+        public String toString() {
+            return "Statistics{hitCount=" + hitCount + ", missCount=" + missCount + ", evictionCount=" + evictionCount + '}';
+        }
+    }
+
+    public static class Builder {
+
+        static final int DEFAULT_MAXIMUM_SIZE = 1000;
+
+        private int maximumSize = DEFAULT_MAXIMUM_SIZE;
+        private Duration expireAfterWrite;
+        private Clock clock = Clock.systemUTC();
+
+        private Builder() {}
+
+        /**
+         * @param maximumSize the maximum number of calendars held by the cache.
+         * @return the Builder instance
+         */
+        public Builder maximumSize(int maximumSize) {
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * @param expireAfterWrite the time after which a calendar is built again. By default, calendars never expire.
+         * @return the Builder instance
+         */
+        public Builder expireAfterWrite(Duration expireAfterWrite) {
+            this.expireAfterWrite = expireAfterWrite;
+            return this;
+        }
+
+        /**
+         * @param clock the clock used to determine the expiration of calendars.
+         * @return the Builder instance
+         */
+        public Builder clock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * @return the new instance of HolidayCalendarCache.
+         */
+        public HolidayCalendarCache build() {
+            if (maximumSize < 1) {
+                throw new IllegalStateException("The maximum size of a holiday calendar cache has to be at least 1");
+            }
+            if (expireAfterWrite != null && (expireAfterWrite.isNegative() || expireAfterWrite.isZero())) {
+                throw new IllegalStateException("The expiration time of a holiday calendar cache has to be positive");
+            }
+            if (clock == null) {
+                throw new IllegalStateException("The clock of a holiday calendar cache must not be null");
+            }
+            return new HolidayCalendarCache(maximumSize, expireAfterWrite, clock);
+        }
+    }
+
+    private static final class Key {
+
+        private final HolidayCalendarConfigurer configurer;
+        private final LocalDate periodStart;
+        private final LocalDate periodEnd;
+
+        private Key(HolidayCalendarConfigurer configurer, LocalDate periodStart, LocalDate periodEnd) {
+            this.configurer = configurer;
+            this.periodStart = periodStart;
+            this.periodEnd = periodEnd;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return configurer.equals(other.configurer)
+                    && Objects.equals(periodStart, other.periodStart)
+                    && Objects.equals(periodEnd, other.periodEnd);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(configurer, periodStart, periodEnd);
+        }
+    }
+
+    private static final class Entry {
+
+        private final HolidayCalendar calendar;
+        private final long createdMillis;
+
+        private Entry(HolidayCalendar calendar, long createdMillis) {
+            this.calendar = calendar;
+            this.createdMillis = createdMillis;
+        }
+    }
+
+}
@@ -2,6 +2,8 @@ package org.nordicthings.commons.holiday;
 
 /**
  * Configures a calendar, typically with regard to the relevant holidays.
+ * Configurers which are used as key of a {@link HolidayCalendarCache} should implement {@code equals} and
+ * {@code hashCode}.
  */
 public interface HolidayCalendarConfigurer {
 
@@ -0,0 +1,309 @@
+package org.nordicthings.commons.holiday;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Provides the calendars of several regions from definition files in the format of
+ * {@link HolidayDefinitionConfigurer}. The files are watched for changes, a changed file is compiled again in a
+ * background thread and the calendar of its region is replaced afterwards, so that e.g. a newly announced holiday takes
+ * effect without a redeployment.
+ * <p>
+ * All calendars are frozen and published together as an immutable snapshot, which is swapped atomically. Readers never
+ * block and see either the old or the new calendar, but never a partially built one. If a changed file cannot be read
+ * or compiled, the previous calendar of its region stays in place and the failure is passed to the
+ * {@link Builder#reloadFailureHandler(Consumer) failure handler}.
+ */
+public final class HolidayCalendarProvider implements Closeable {
+
+    private static final long SETTLE_MILLIS = 50;
+
+    private final int firstYear;
+    private final int lastYear;
+    private final Map<String, Path> files;
+    private final Function<String, ? extends AdministrativeArea> areaResolver;
+    private final Consumer<Exception> reloadFailureHandler;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final WatchService watchService;
+
+    private HolidayCalendarProvider(Builder builder) throws IOException {
+        this.firstYear = builder.firstYear;
+        this.lastYear = builder.lastYear;
+        this.files = Collections.unmodifiableMap(new LinkedHashMap<>(builder.files));
+        this.areaResolver = builder.areaResolver;
+        this.reloadFailureHandler = builder.reloadFailureHandler;
+        this.snapshot.set(new Snapshot(0, Collections.emptyMap(), Collections.emptyMap()));
+        // the files are watched before they are compiled, so that no change in between is missed
+        this.watchService = FileSystems.getDefault().newWatchService();
+        try {
+            for (Path directory : directories()) {
+                directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            }
+            reload();
+        } catch (IOException | RuntimeException e) {
+            watchService.close();
+            throw e;
+        }
+        Thread watcher = new Thread(this::watch, "holiday-calendar-provider");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    /**
+     * @return a Builder to create a new instance of HolidayCalendarProvider
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the names of all regions in the order they were added.
+     */
+    public Set<String> getRegions() {
+        return files.keySet();
+    }
+
+    /**
+     * @param region the name of a region
+     * @return the currently published, frozen calendar of the region
+     */
+    public HolidayCalendar getCalendar(String region) {
+        HolidayCalendar calendar = snapshot.get().calendars.get(region);
+        if (calendar == null) {
+            throw new IllegalArgumentException("The holiday calendar provider does not contain the region " + region);
+        }
+        return calendar;
+    }
+
+    /**
+     * @param region the name of a region
+     * @param date  any date.
+     * @param areas optional administrative areas for which the given date shall be checked.
+     * @return true: the given date is a holiday in the currently published calendar of the region.
+     */
+    public boolean isHoliday(String region, LocalDate date, AdministrativeArea... areas) {
+        return getCalendar(region).isHoliday(date, areas);
+    }
+
+    /**
+     * @param region the name of a region
+     * @param date  any date.
+     * @param areas optional administrative areas for which the given date shall be checked.
+     * @return true: the given date is a working day in the currently published calendar of the region.
+     */
+    public boolean isWorkingDay(String region, LocalDate date, AdministrativeArea... areas) {
+        return getCalendar(region).isWorkingDay(date, areas);
+    }
+
+    /**
+     * @return the number of snapshots published so far. The number grows whenever the calendar of at least one region
+     * has been replaced.
+     */
+    public long getGeneration() {
+        return snapshot.get().generation;
+    }
+
+    /**
+     * Compiles the definitions of all regions again and publishes the changed calendars. Calendars whose definitions
+     * did not change are kept.
+     *
+     * @throws IOException if a definition file cannot be read, no calendar is replaced in that case
+     */
+    public void reload() throws IOException {
+        reload(files.keySet());
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+
+    private synchronized void reload(Collection<String> regions) throws IOException {
+        Snapshot current = snapshot.get();
+        Map<String, HolidayDefinitionConfigurer> configurers = new HashMap<>(current.configurers);
+        Map<String, HolidayCalendar> calendars = new HashMap<>(current.calendars);
+        boolean changed = false;
+        for (String region : regions) {
+            HolidayDefinitionConfigurer configurer;
+            try (Reader reader = Files.newBufferedReader(files.get(region), StandardCharsets.UTF_8)) {
+                configurer = HolidayDefinitionConfigurer.load(reader, areaResolver);
+            }
+            if (configurer.equals(configurers.get(region))) {
+                continue;
+            }
+            configurers.put(region, configurer);
+            calendars.put(region, HolidayCalendar.builder()
+                    .forYears(firstYear, lastYear)
+                    .configurer(configurer)
+                    .frozen()
+                    .build());
+            changed = true;
+        }
+        if (changed) {
+            snapshot.set(new Snapshot(current.generation + 1, configurers, calendars));
+        }
+    }
+
+    private Set<Path> directories() {
+        Set<Path> directories = new LinkedHashSet<>();
+        for (Path file : files.values()) {
+            directories.add(file.getParent());
+        }
+        return directories;
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                Set<String> regions = new LinkedHashSet<>();
+                // editors and deployments often write a file in several steps, so further events are collected
+                // for a short time before the affected regions are compiled once
+                while (key != null) {
+                    Path directory = (Path) key.watchable();
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                            regions.addAll(files.keySet());
+                            continue;
+                        }
+                        Path changed = directory.resolve((Path) event.context());
+                        files.forEach((region, file) -> {
+                            if (file.equals(changed)) {
+                                regions.add(region);
+                            }
+                        });
+                    }
+                    key.reset();
+                    key = watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS);
+                }
+                if (!regions.isEmpty()) {
+                    try {
+                        reload(regions);
+                    } catch (IOException | RuntimeException e) {
+                        reloadFailureHandler.accept(e);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // the provider has been closed
+        }
+    }
+
+    private static final class Snapshot {
+
+        private final long generation;
+        private final Map<String, HolidayDefinitionConfigurer> configurers;
+        private final Map<String, HolidayCalendar> calendars;
+
+        private Snapshot(long generation, Map<String, HolidayDefinitionConfigurer> configurers, Map<String, HolidayCalendar> calendars) {
+            this.generation = generation;
+            this.configurers = configurers;
+            this.calendars = calendars;
+        }
+    }
+
+    public static class Builder {
+
+        private Integer firstYear;
+        private Integer lastYear;
+        private final Map<String, Path> files = new LinkedHashMap<>();
+        private Function<String, ? extends AdministrativeArea> areaResolver = iso -> null;
+        private Consumer<Exception> reloadFailureHandler = e -> { };
+
+        private Builder() {}
+
+        /**
+         * @param firstYear the first year covered by the calendars.
+         * @param lastYear the last year covered by the calendars.
+         * @return the Builder instance
+         */
+        public Builder forYears(int firstYear, int lastYear) {
+            this.firstYear = firstYear;
+            this.lastYear = lastYear;
+            return this;
+        }
+
+        /**
+         * @param region the name of the region
+         * @param file the definition file of the region in UTF-8
+         * @return the Builder instance
+         */
+        public Builder region(String region, Path file) {
+            if (region == null || file == null) {
+                throw new IllegalArgumentException("A region requires a name and a definition file");
+            }
+            if (files.containsKey(region)) {
+                throw new IllegalArgumentException("The region " + region + " has already been added");
+            }
+            files.put(region, file.toAbsolutePath().normalize());
+            return this;
+        }
+
+        /**
+         * @param areas the administrative areas which may be referenced by the definitions
+         * @return the Builder instance
+         */
+        public Builder areas(AdministrativeArea... areas) {
+            Map<String, AdministrativeArea> areasByIso = new HashMap<>();
+            for (AdministrativeArea area : areas) {
+                areasByIso.put(area.getISO(), area);
+            }
+            this.areaResolver = areasByIso::get;
+            return this;
+        }
+
+        /**
+         * @param areaResolver resolves the ISO code of an administrative area to the area, returns {@code null} for
+         *                     unknown areas.
+         * @return the Builder instance
+         */
+        public Builder areaResolver(Function<String, ? extends AdministrativeArea> areaResolver) {
+            this.areaResolver = areaResolver;
+            return this;
+        }
+
+        /**
+         * @param reloadFailureHandler receives the failures of reloading changed definition files in the
+         *                             background, failures are ignored by default
+         * @return the Builder instance
+         */
+        public Builder reloadFailureHandler(Consumer<Exception> reloadFailureHandler) {
+            this.reloadFailureHandler = reloadFailureHandler;
+            return this;
+        }
+
+        /**
+         * Compiles all definitions and starts watching the definition files.
+         *
+         * @return the new instance of HolidayCalendarProvider.
+         * @throws IOException if a definition file cannot be read or watched
+         */
+        public HolidayCalendarProvider build() throws IOException {
+            if (firstYear == null || lastYear == null) {
+                throw new IllegalStateException("The years of a holiday calendar provider must not be null");
+            }
+            if (lastYear < firstYear) {
+                throw new IllegalStateException("The last year " + lastYear + " is before the first year " + firstYear);
+            }
+            if (files.isEmpty()) {
+                throw new IllegalStateException("A holiday calendar provider requires at least one region");
+            }
+            if (areaResolver == null || reloadFailureHandler == null) {
+                throw new IllegalStateException("The area resolver and the failure handler must not be null");
+            }
+            return new HolidayCalendarProvider(this);
+        }
+    }
+
+}
@@ -0,0 +1,207 @@
+package org.nordicthings.commons.holiday;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Reads calendars written by the {@link HolidayCalendarWriter}. The restored calendar is frozen and holds the
+ * holidays with their concrete dates only, so that the index is taken over from the file instead of being compiled.
+ * Administrative areas are stored by their ISO code and resolved by the function given to the reader.
+ */
+public final class HolidayCalendarReader {
+
+    private final Function<String, ? extends AdministrativeArea> areaResolver;
+
+    private HolidayCalendarReader(Function<String, ? extends AdministrativeArea> areaResolver) {
+        this.areaResolver = areaResolver;
+    }
+
+    /**
+     * @param areaResolver resolves the ISO code of an administrative area to the area, returns {@code null} for
+     *                     unknown areas.
+     * @return a new instance of HolidayCalendarReader
+     */
+    public static HolidayCalendarReader of(Function<String, ? extends AdministrativeArea> areaResolver) {
+        if (areaResolver == null) {
+            throw new IllegalArgumentException("A holiday calendar reader requires an area resolver");
+        }
+        return new HolidayCalendarReader(areaResolver);
+    }
+
+    /**
+     * @param areas the administrative areas which may occur in the calendars to be read, e.g.
+     *              {@code GermanFederalState.values()}
+     * @return a new instance of HolidayCalendarReader which resolves the given areas by their ISO code
+     */
+    public static HolidayCalendarReader of(AdministrativeArea... areas) {
+        Map<String, AdministrativeArea> areasByIso = new HashMap<>();
+        for (AdministrativeArea area : areas == null ? new AdministrativeArea[0] : areas) {
+            areasByIso.put(area.getISO(), area);
+        }
+        return new HolidayCalendarReader(areasByIso::get);
+    }
+
+    /**
+     * @param file a file written by the {@link HolidayCalendarWriter}
+     * @return the restored calendar
+     * @throws IOException if the file cannot be read
+     */
+    public HolidayCalendar read(Path file) throws IOException {
+        return read(ByteBuffer.wrap(Files.readAllBytes(file)));
+    }
+
+    /**
+     * @param in a stream holding a calendar written by the {@link HolidayCalendarWriter}, which is read to its end
+     *           but not closed
+     * @return the restored calendar
+     * @throws IOException if the stream cannot be read
+     */
+    public HolidayCalendar read(InputStream in) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        byte[] chunk = new byte[8192];
+        int count;
+        while ((count = in.read(chunk)) >= 0) {
+            bytes.write(chunk, 0, count);
+        }
+        return read(ByteBuffer.wrap(bytes.toByteArray()));
+    }
+
+    /**
+     * @param buffer a buffer holding a calendar written by the {@link HolidayCalendarWriter} from its position on.
+     *               The position of the buffer is not changed.
+     * @return the restored calendar
+     */
+    public HolidayCalendar read(ByteBuffer buffer) {
+        ByteBuffer data = buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+        try {
+            return readCalendar(data);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException | DateTimeException e) {
+            throw new HolidayException("Unable to read a holiday calendar from a truncated or corrupt buffer", e);
+        }
+    }
+
+    private HolidayCalendar readCalendar(ByteBuffer data) {
+        if (data.getInt() != HolidayCalendarWriter.MAGIC) {
+            throw new HolidayException("The buffer does not hold a holiday calendar");
+        }
+        short version = data.getShort();
+        if (version < 1 || version > HolidayCalendarWriter.VERSION) {
+            throw new HolidayException("Unsupported version " + version + " of a holiday calendar");
+        }
+        long startEpochDay = data.getLong();
+        long endEpochDay = data.getLong();
+        if (endEpochDay < startEpochDay || endEpochDay - startEpochDay >= Integer.MAX_VALUE) {
+            throw new HolidayException("Invalid period of a holiday calendar");
+        }
+        int length = (int) (endEpochDay - startEpochDay + 1);
+
+        String[] strings = new String[data.getInt()];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] bytes = new byte[data.getInt()];
+            data.get(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        int holidayCount = data.getInt();
+        String[] keys = new String[holidayCount];
+        String[] names = new String[holidayCount];
+        AdministrativeArea[][] areas = new AdministrativeArea[holidayCount][];
+        for (int i = 0; i < holidayCount; i++) {
+            keys[i] = string(strings, data.getInt());
+            names[i] = string(strings, data.getInt());
+            areas[i] = new AdministrativeArea[data.getInt()];
+            for (int j = 0; j < areas[i].length; j++) {
+                areas[i][j] = area(string(strings, data.getInt()));
+            }
+        }
+
+        int[] offsets = new int[data.getInt()];
+        int[] holidayNumbers = new int[offsets.length];
+        int[] occurrenceCounts = new int[holidayCount];
+        int firstOfDay = 0;
+        for (int i = 0; i < offsets.length; i++) {
+            offsets[i] = data.getInt();
+            holidayNumbers[i] = data.getInt();
+            if (offsets[i] < 0 || offsets[i] >= length) {
+                throw new HolidayException("The occurrence " + i + " lies outside of the period of the holiday calendar");
+            }
+            if (holidayNumbers[i] < 0 || holidayNumbers[i] >= holidayCount) {
+                throw new HolidayException("The occurrence " + i + " refers to the unknown holiday " + holidayNumbers[i]);
+            }
+            // several holidays may fall on the same day, but a holiday occurs only once a day
+            if (i > 0 && offsets[i] < offsets[i - 1]) {
+                throw new HolidayException("The occurrences of the holiday calendar are not ordered by their days");
+            }
+            if (i > 0 && offsets[i] > offsets[i - 1]) {
+                firstOfDay = i;
+            }
+            for (int j = firstOfDay; j < i; j++) {
+                if (holidayNumbers[j] == holidayNumbers[i]) {
+                    throw new HolidayException("The holiday " + holidayNumbers[i] + " occurs twice on the same day");
+                }
+            }
+            occurrenceCounts[holidayNumbers[i]]++;
+        }
+
+        long[][] epochDays = new long[holidayCount][];
+        for (int i = 0; i < holidayCount; i++) {
+            epochDays[i] = new long[occurrenceCounts[i]];
+            occurrenceCounts[i] = 0;
+        }
+        for (int i = 0; i < offsets.length; i++) {
+            int number = holidayNumbers[i];
+            epochDays[number][occurrenceCounts[number]++] = startEpochDay + offsets[i];
+        }
+        List<Holiday> holidays = new ArrayList<>(holidayCount);
+        for (int i = 0; i < holidayCount; i++) {
+            holidays.add(new ResolvedHoliday(keys[i], names[i], epochDays[i], areas[i]));
+        }
+        Holiday[] occurrences = new Holiday[offsets.length];
+        for (int i = 0; i < offsets.length; i++) {
+            occurrences[i] = holidays.get(holidayNumbers[i]);
+        }
+        // version 1 has no weekends and always used saturday and sunday
+        Weekends weekends = Weekends.DEFAULT;
+        if (version >= 2) {
+            weekends = weekends.withStandard(weekend(data.get()));
+            int weekendCount = data.getInt();
+            for (int i = 0; i < weekendCount; i++) {
+                AdministrativeArea area = area(string(strings, data.getInt()));
+                weekends = weekends.withArea(area, weekend(data.get()));
+            }
+        }
+        HolidayIndex index = HolidayIndex.of(startEpochDay, length, offsets, occurrences, weekends);
+        return HolidayCalendar.restore(LocalDate.ofEpochDay(startEpochDay), LocalDate.ofEpochDay(endEpochDay), holidays, index);
+    }
+
+    private static String string(String[] strings, int number) {
+        return number < 0 ? null : strings[number];
+    }
+
+    private static Weekend weekend(byte mask) {
+        if (mask < 0) {
+            throw new HolidayException("Invalid weekend " + mask + " of a holiday calendar");
+        }
+        return Weekend.ofMask(mask);
+    }
+
+    private AdministrativeArea area(String iso) {
+        AdministrativeArea area = areaResolver.apply(iso);
+        if (area == null) {
+            throw new HolidayException("Unable to resolve the administrative area " + iso);
+        }
+        return area;
+    }
+
+}
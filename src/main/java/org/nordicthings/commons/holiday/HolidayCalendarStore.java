@@ -0,0 +1,355 @@
+package org.nordicthings.commons.holiday;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * A read-only store of the holidays of many regions, which is written once into a file and read through a
+ * memory-mapped buffer. A region is a calendar together with the administrative areas whose holidays are considered,
+ * e.g. Germany with Bavaria. For every region the store holds one bit per day of the covered years, which is set for
+ * holidays. The bits are not copied into the heap, so that many regions and years can be served with little heap and
+ * several processes reading the same file share the page cache. Queries of a {@link Region} read a single long from
+ * the buffer and do not allocate.
+ * <p>
+ * All numbers are written big-endian. The layout of version 2 is:
+ * <pre>
+ * int    magic number 0x48435354 ("HCST")
+ * short  version
+ * long   first day as epoch day
+ * int    number of days
+ * int    number of regions, followed by every region as int length and UTF-8 bytes of the name and byte days of
+ *        the weekend, one bit per day of week, monday is bit 0
+ *        padding up to the next multiple of 8 bytes
+ * long[] for every region (number of days + 63) / 64 longs, bit i of long j stands for the day 64 * j + i
+ * </pre>
+ * Version 1 has no weekends and is read with the weekend of saturday and sunday.
+ */
+public final class HolidayCalendarStore {
+
+    static final int MAGIC = 0x48435354;
+    static final short VERSION = 2;
+
+    private final Map<String, Region> regions;
+
+    private HolidayCalendarStore(Map<String, Region> regions) {
+        this.regions = regions;
+    }
+
+    /**
+     * @param firstYear the first year covered by the store
+     * @param lastYear the last year covered by the store
+     * @return a Writer to create a new store file
+     */
+    public static Writer writer(int firstYear, int lastYear) {
+        return new Writer(firstYear, lastYear);
+    }
+
+    /**
+     * @param file a file written by a {@link Writer}
+     * @return the store, which maps the file into memory. The mapping stays valid until the store is garbage collected.
+     * @throws IOException if the file cannot be mapped
+     */
+    public static HolidayCalendarStore open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new HolidayException("The holiday calendar store " + file + " is too large to be mapped");
+            }
+            return open(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * @param buffer a buffer holding a store written by a {@link Writer}, starting at index 0. The buffer is used
+     *               directly and must not be modified afterwards.
+     * @return the store
+     */
+    public static HolidayCalendarStore open(ByteBuffer buffer) {
+        ByteBuffer data = buffer.duplicate();
+        try {
+            if (data.getInt(0) != MAGIC) {
+                throw new HolidayException("The buffer does not hold a holiday calendar store");
+            }
+            short version = data.getShort(4);
+            if (version < 1 || version > VERSION) {
+                throw new HolidayException("Unsupported version " + version + " of a holiday calendar store");
+            }
+            long startEpochDay = data.getLong(6);
+            int length = data.getInt(14);
+            int regionCount = data.getInt(18);
+            int index = 22;
+            String[] names = new String[regionCount];
+            int[] weekends = new int[regionCount];
+            for (int i = 0; i < regionCount; i++) {
+                byte[] bytes = new byte[data.getInt(index)];
+                index += 4;
+                for (int j = 0; j < bytes.length; j++) {
+                    bytes[j] = data.get(index++);
+                }
+                names[i] = new String(bytes, StandardCharsets.UTF_8);
+                weekends[i] = version >= 2 ? data.get(index++) : Weekend.SATURDAY_SUNDAY.getMask();
+                if (weekends[i] < 0) {
+                    throw new HolidayException("Invalid weekend " + weekends[i] + " of the region " + names[i]);
+                }
+            }
+            int base = align(index);
+            int words = words(length);
+            if ((long) base + (long) regionCount * words * 8 > data.capacity()) {
+                throw new HolidayException("Unable to open a truncated holiday calendar store");
+            }
+            Map<String, Region> regions = new LinkedHashMap<>();
+            for (int i = 0; i < regionCount; i++) {
+                regions.put(names[i], new Region(names[i], data, base + i * words * 8, startEpochDay, length, weekends[i]));
+            }
+            return new HolidayCalendarStore(Collections.unmodifiableMap(regions));
+        } catch (IndexOutOfBoundsException | NegativeArraySizeException e) {
+            throw new HolidayException("Unable to open a truncated or corrupt holiday calendar store");
+        }
+    }
+
+    /**
+     * @return the names of all regions in the order they were written.
+     */
+    public Set<String> getRegions() {
+        return regions.keySet();
+    }
+
+    /**
+     * @param name the name of a region
+     * @return the region, which should be kept by the caller to avoid the lookup by name
+     */
+    public Region getRegion(String name) {
+        Region region = regions.get(name);
+        if (region == null) {
+            throw new IllegalArgumentException("The holiday calendar store does not contain the region " + name);
+        }
+        return region;
+    }
+
+    /**
+     * @param region the name of a region
+     * @param date any date
+     * @return true: the given date is a holiday in the given region.
+     */
+    public boolean isHoliday(String region, LocalDate date) {
+        return getRegion(region).isHoliday(date);
+    }
+
+    /**
+     * @param region the name of a region
+     * @param date any date
+     * @return true: the given date is a working day in the given region.
+     */
+    public boolean isWorkingDay(String region, LocalDate date) {
+        return getRegion(region).isWorkingDay(date);
+    }
+
+    private static int words(int length) {
+        return (length + 63) >>> 6;
+    }
+
+    private static int align(int index) {
+        return (index + 7) & ~7;
+    }
+
+    /**
+     * The holidays of a single region within a {@link HolidayCalendarStore}. Days outside of the years covered by the
+     * store are never holidays.
+     */
+    public static final class Region {
+
+        private final String name;
+        private final ByteBuffer data;
+        private final int base;
+        private final long startEpochDay;
+        private final int length;
+        private final int weekend;
+
+        private Region(String name, ByteBuffer data, int base, long startEpochDay, int length, int weekend) {
+            this.name = name;
+            this.data = data;
+            this.base = base;
+            this.startEpochDay = startEpochDay;
+            this.length = length;
+            this.weekend = weekend;
+        }
+
+        /**
+         * @return the name of the region.
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return the weekend of the region.
+         */
+        public Weekend getWeekend() {
+            return Weekend.ofMask(weekend);
+        }
+
+        /**
+         * @param epochDay any day given as epoch day, see {@link LocalDate#toEpochDay()}.
+         * @return true: the given day is a holiday in the region.
+         */
+        public boolean isHoliday(long epochDay) {
+            long day = epochDay - startEpochDay;
+            if (day < 0 || day >= length) {
+                return false;
+            }
+            return (data.getLong(base + (int) (day >>> 6) * 8) & (1L << day)) != 0;
+        }
+
+        /**
+         * @param date any date.
+         * @return true: the given date is a holiday in the region.
+         */
+        public boolean isHoliday(LocalDate date) {
+            if (date == null) {
+                throw new IllegalArgumentException("Unable to determine holiday for a date of null");
+            }
+            return isHoliday(date.toEpochDay());
+        }
+
+        /**
+         * @param epochDay any day given as epoch day, see {@link LocalDate#toEpochDay()}.
+         * @return true: the given day is neither a weekend nor a holiday in the region.
+         */
+        public boolean isWorkingDay(long epochDay) {
+            return !Weekend.isWeekend(epochDay, weekend) && !isHoliday(epochDay);
+        }
+
+        /**
+         * @param date any date.
+         * @return true: the given date is neither a weekend nor a holiday in the region.
+         */
+        public boolean isWorkingDay(LocalDate date) {
+            if (date == null) {
+                throw new IllegalArgumentException("Unable to determine working day for a date of null");
+            }
+            return isWorkingDay(date.toEpochDay());
+        }
+
+        @Override
+        public String toString() {
+            return "Region[" + name + "]";
+        }
+    }
+
+    /**
+     * Collects the regions of a new store and writes it.
+     */
+    public static final class Writer {
+
+        private final int firstYear;
+        private final int lastYear;
+        private final Map<String, RegionDefinition> regions = new LinkedHashMap<>();
+
+        private Writer(int firstYear, int lastYear) {
+            if (lastYear < firstYear) {
+                throw new IllegalArgumentException("The last year " + lastYear + " is before the first year " + firstYear);
+            }
+            this.firstYear = firstYear;
+            this.lastYear = lastYear;
+        }
+
+        /**
+         * @param name the unique name of the region, e.g. the ISO code of the area
+         * @param configurer the configurer of the calendar of the region
+         * @param areas optional administrative areas whose holidays are considered in addition to the nationwide ones
+         * @return the Writer instance
+         */
+        public Writer region(String name, HolidayCalendarConfigurer configurer, AdministrativeArea... areas) {
+            if (name == null || configurer == null) {
+                throw new IllegalArgumentException("A region requires a name and a configurer");
+            }
+            if (regions.containsKey(name)) {
+                throw new IllegalArgumentException("The region " + name + " has already been added");
+            }
+            regions.put(name, new RegionDefinition(configurer, AreaSelector.of(areas)));
+            return this;
+        }
+
+        /**
+         * @param file the file to be written, an existing file is replaced
+         * @throws IOException if the file cannot be written
+         */
+        public void write(Path file) throws IOException {
+            try (OutputStream out = Files.newOutputStream(file)) {
+                write(out);
+            }
+        }
+
+        /**
+         * @param out the stream to be written to, which is not closed
+         * @throws IOException if the stream cannot be written
+         */
+        public void write(OutputStream out) throws IOException {
+            LocalDate start = LocalDate.of(firstYear, 1, 1);
+            LocalDate end = LocalDate.of(lastYear, 12, 31);
+            long startEpochDay = start.toEpochDay();
+            int length = (int) (end.toEpochDay() - startEpochDay + 1);
+
+            Map<HolidayCalendarConfigurer, HolidayCalendar> calendars = new HashMap<>();
+            for (RegionDefinition region : regions.values()) {
+                calendars.computeIfAbsent(region.configurer, configurer -> HolidayCalendar.builder()
+                        .periodStart(start)
+                        .periodEnd(end)
+                        .configurer(configurer)
+                        .frozen()
+                        .build());
+            }
+
+            DataOutputStream data = new DataOutputStream(out);
+            data.writeInt(MAGIC);
+            data.writeShort(VERSION);
+            data.writeLong(startEpochDay);
+            data.writeInt(length);
+            data.writeInt(regions.size());
+            for (Map.Entry<String, RegionDefinition> region : regions.entrySet()) {
+                byte[] bytes = region.getKey().getBytes(StandardCharsets.UTF_8);
+                data.writeInt(bytes.length);
+                data.write(bytes);
+                Weekends weekends = calendars.get(region.getValue().configurer).index().weekends();
+                data.writeByte(weekends.mask(region.getValue().selector.getAreas()));
+            }
+            for (int i = data.size(); i < align(data.size()); i++) {
+                data.writeByte(0);
+            }
+
+            for (RegionDefinition region : regions.values()) {
+                HolidayCalendar calendar = calendars.get(region.configurer);
+                long[] bits = new long[words(length)];
+                for (int day = 0; day < length; day++) {
+                    if (calendar.isHoliday(startEpochDay + day, region.selector)) {
+                        bits[day >>> 6] |= 1L << day;
+                    }
+                }
+                for (long word : bits) {
+                    data.writeLong(word);
+                }
+            }
+            data.flush();
+        }
+    }
+
+    private static final class RegionDefinition {
+
+        private final HolidayCalendarConfigurer configurer;
+        private final AreaSelector selector;
+
+        private RegionDefinition(HolidayCalendarConfigurer configurer, AreaSelector selector) {
+            this.configurer = configurer;
+            this.selector = selector;
+        }
+    }
+
+}
@@ -0,0 +1,155 @@
+package org.nordicthings.commons.holiday;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Writes the compiled holidays of a {@link HolidayCalendar} in a compact binary format, which is read by the
+ * {@link HolidayCalendarReader} without running any configurer or calculating any date.
+ * <p>
+ * All numbers are written big-endian. The layout of version 2 is:
+ * <pre>
+ * int    magic number 0x4843414C ("HCAL")
+ * short  version
+ * long   first day of the period as epoch day
+ * long   last day of the period as epoch day
+ * int    number of strings, followed by every string as int length and UTF-8 bytes
+ * int    number of holidays, followed by every holiday as
+ *        int key, int name (string numbers, -1 for null), int number of areas, int ISO code of every area
+ * int    number of occurrences, followed by every occurrence as
+ *        int offset from the first day, int holiday number
+ * byte   days of the weekend, one bit per day of week, monday is bit 0
+ * int    number of areas with a weekend of their own, followed by every area as
+ *        int ISO code (string number), byte days of the weekend
+ * </pre>
+ * Version 1 ends after the occurrences and is read with the weekend of saturday and sunday.
+ * Holidays are numbered in the order of their first occurrence, the areas of a holiday and the areas with a weekend
+ * of their own are ordered by their ISO code
+ * and strings are numbered in the order of their first use, so that equal calendars are written to equal bytes.
+ * Holidays without occurrence within the period are not written.
+ */
+public final class HolidayCalendarWriter {
+
+    static final int MAGIC = 0x4843414C;
+    static final short VERSION = 2;
+
+    private HolidayCalendarWriter() {}
+
+    /**
+     * @param calendar the calendar to be written
+     * @return the calendar in binary format
+     */
+    public static byte[] toBytes(HolidayCalendar calendar) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            write(calendar, bytes);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to write a holiday calendar into memory", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * @param calendar the calendar to be written
+     * @param file the file to be written, an existing file is replaced
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(HolidayCalendar calendar, Path file) throws IOException {
+        try (OutputStream out = Files.newOutputStream(file)) {
+            write(calendar, out);
+        }
+    }
+
+    /**
+     * @param calendar the calendar to be written
+     * @param out the stream to be written to, which is not closed
+     * @throws IOException if the stream cannot be written
+     */
+    public static void write(HolidayCalendar calendar, OutputStream out) throws IOException {
+        if (calendar == null) {
+            throw new IllegalArgumentException("Unable to write a holiday calendar of null");
+        }
+        HolidayIndex index = calendar.index();
+        Map<Holiday, Integer> holidayNumbers = new LinkedHashMap<>();
+        for (int i = 0; i < index.size(); i++) {
+            Holiday holiday = index.holidayAt(i);
+            if (!holidayNumbers.containsKey(holiday)) {
+                holidayNumbers.put(holiday, holidayNumbers.size());
+            }
+        }
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        List<int[]> holidayStrings = new ArrayList<>();
+        for (Holiday holiday : holidayNumbers.keySet()) {
+            List<String> isoCodes = new ArrayList<>();
+            for (AdministrativeArea area : holiday.getAdministrativeAreas()) {
+                isoCodes.add(area.getISO());
+            }
+            Collections.sort(isoCodes);
+            int[] numbers = new int[2 + isoCodes.size()];
+            numbers[0] = number(strings, holiday.getKey());
+            numbers[1] = number(strings, holiday.getName());
+            for (int i = 0; i < isoCodes.size(); i++) {
+                numbers[2 + i] = number(strings, isoCodes.get(i));
+            }
+            holidayStrings.add(numbers);
+        }
+        Weekends weekends = index.weekends();
+        Map<String, Weekend> areaWeekends = new TreeMap<>();
+        weekends.getAreas().forEach((area, weekend) -> areaWeekends.put(area.getISO(), weekend));
+        for (String iso : areaWeekends.keySet()) {
+            number(strings, iso);
+        }
+
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeShort(VERSION);
+        data.writeLong(calendar.getPeriodStart().toEpochDay());
+        data.writeLong(calendar.getPeriodEnd().toEpochDay());
+        data.writeInt(strings.size());
+        for (String string : strings.keySet()) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            data.writeInt(bytes.length);
+            data.write(bytes);
+        }
+        data.writeInt(holidayStrings.size());
+        for (int[] numbers : holidayStrings) {
+            data.writeInt(numbers[0]);
+            data.writeInt(numbers[1]);
+            data.writeInt(numbers.length - 2);
+            for (int i = 2; i < numbers.length; i++) {
+                data.writeInt(numbers[i]);
+            }
+        }
+        data.writeInt(index.size());
+        for (int i = 0; i < index.size(); i++) {
+            data.writeInt(index.offsetAt(i));
+            data.writeInt(holidayNumbers.get(index.holidayAt(i)));
+        }
+        data.writeByte(weekends.getStandard().getMask());
+        data.writeInt(areaWeekends.size());
+        for (Map.Entry<String, Weekend> entry : areaWeekends.entrySet()) {
+            data.writeInt(strings.get(entry.getKey()));
+            data.writeByte(entry.getValue().getMask());
+        }
+        data.flush();
+    }
+
+    private static int number(Map<String, Integer> strings, String string) {
+        if (string == null) {
+            return -1;
+        }
+        Integer number = strings.get(string);
+        if (number == null) {
+            number = strings.size();
+            strings.put(string, number);
+        }
+        return number;
+    }
+
+}
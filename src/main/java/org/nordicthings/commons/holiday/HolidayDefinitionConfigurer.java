@@ -0,0 +1,386 @@
+package org.nordicthings.commons.holiday;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Configures a calendar with holidays which are declared in properties instead of code. The definition is compiled
+ * once into {@link Holiday} instances, which are added to every configured calendar. The most recently used
+ * {@value #MAX_RULES} parsed rules are cached JVM-wide, so that definitions for many regions sharing the same rules are
+ * parsed only once per rule, while reloading changed definitions does not accumulate rules.
+ * <p>
+ * Every holiday is declared by properties starting with its key. Exactly one rule is required:
+ * <pre>
+ * newYear.date = 01-01                   fixed day as month and day
+ * liberation.date = 2020-05-08           one-off holiday on a single date
+ * goodFriday.easter = -2                 days relative to Easter sunday
+ * orthodoxEaster.orthodoxEaster = 0      days relative to Orthodox Easter sunday
+ * memorialDay.weekday = last MONDAY of 5 first to fifth or last day of week in a month
+ * prayer.weekday = WEDNESDAY before 11-23 day of week before or after a fixed day
+ * </pre>
+ * Optional properties are {@code name} (defaults to the key), {@code areas} (comma-separated ISO codes of the
+ * administrative areas, nationwide if missing), {@code from} and {@code until} (the first and last year). Holidays are
+ * added in the order of their keys. Definitions are equal if their properties are equal.
+ * <p>
+ * The key {@code weekend} is reserved for the days of week which are no working days, saturday and sunday by default.
+ * Single administrative areas may deviate:
+ * <pre>
+ * weekend = FRIDAY, SATURDAY
+ * weekend.DE-BY = SUNDAY
+ * </pre>
+ */
+public final class HolidayDefinitionConfigurer implements HolidayCalendarConfigurer {
+
+    /**
+     * The maximum number of parsed rules which are cached.
+     */
+    static final int MAX_RULES = 1024;
+
+    private static final Map<String, Rule> RULES = new LinkedHashMap<String, Rule>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Rule> eldest) {
+            return size() > MAX_RULES;
+        }
+    };
+    private static final Set<String> ATTRIBUTES = new HashSet<>(Arrays.asList("date", "easter", "orthodoxEaster", "weekday", "name", "areas", "from", "until"));
+
+    private final Map<String, String> definition;
+    private final List<Holiday> holidays;
+    private final Weekend weekend;
+    private final Map<AdministrativeArea, Weekend> areaWeekends;
+
+    private HolidayDefinitionConfigurer(Map<String, String> definition, List<Holiday> holidays, Weekend weekend,
+                                        Map<AdministrativeArea, Weekend> areaWeekends) {
+        this.definition = definition;
+        this.holidays = holidays;
+        this.weekend = weekend;
+        this.areaWeekends = areaWeekends;
+    }
+
+    /**
+     * @param file a properties file in UTF-8
+     * @param areas the administrative areas which may be referenced by the definition, e.g.
+     *              {@code GermanFederalState.values()}
+     * @return the compiled definition
+     * @throws IOException if the file cannot be read
+     */
+    public static HolidayDefinitionConfigurer load(Path file, AdministrativeArea... areas) throws IOException {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return load(reader, byIso(areas));
+        }
+    }
+
+    /**
+     * @param reader a reader of properties, which is not closed
+     * @param areaResolver resolves the ISO code of an administrative area to the area, returns {@code null} for
+     *                     unknown areas.
+     * @return the compiled definition
+     * @throws IOException if the reader fails
+     */
+    public static HolidayDefinitionConfigurer load(Reader reader, Function<String, ? extends AdministrativeArea> areaResolver) throws IOException {
+        Properties properties = new Properties();
+        properties.load(reader);
+        return of(properties, areaResolver);
+    }
+
+    /**
+     * @param properties the definition
+     * @param areas the administrative areas which may be referenced by the definition
+     * @return the compiled definition
+     */
+    public static HolidayDefinitionConfigurer of(Properties properties, AdministrativeArea... areas) {
+        return of(properties, byIso(areas));
+    }
+
+    /**
+     * @param properties the definition
+     * @param areaResolver resolves the ISO code of an administrative area to the area, returns {@code null} for
+     *                     unknown areas.
+     * @return the compiled definition
+     */
+    public static HolidayDefinitionConfigurer of(Properties properties, Function<String, ? extends AdministrativeArea> areaResolver) {
+        if (properties == null || areaResolver == null) {
+            throw new IllegalArgumentException("A holiday definition requires properties and an area resolver");
+        }
+        Map<String, String> definition = new TreeMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            definition.put(name.trim(), properties.getProperty(name).trim());
+        }
+        Map<String, Map<String, String>> attributesByKey = new TreeMap<>();
+        Weekend weekend = null;
+        Map<AdministrativeArea, Weekend> areaWeekends = new LinkedHashMap<>();
+        for (Map.Entry<String, String> entry : definition.entrySet()) {
+            if (entry.getKey().equals("weekend")) {
+                weekend = weekend(entry.getKey(), entry.getValue());
+                continue;
+            }
+            if (entry.getKey().startsWith("weekend.")) {
+                String iso = entry.getKey().substring("weekend.".length());
+                AdministrativeArea area = areaResolver.apply(iso);
+                if (area == null) {
+                    throw new HolidayException("Unable to resolve the administrative area " + iso + " of the weekend");
+                }
+                areaWeekends.put(area, weekend(entry.getKey(), entry.getValue()));
+                continue;
+            }
+            int separator = entry.getKey().lastIndexOf('.');
+            String attribute = separator < 0 ? "" : entry.getKey().substring(separator + 1);
+            if (separator <= 0 || !ATTRIBUTES.contains(attribute)) {
+                throw new HolidayException("Invalid property " + entry.getKey() + " of a holiday definition");
+            }
+            attributesByKey.computeIfAbsent(entry.getKey().substring(0, separator), k -> new HashMap<>())
+                    .put(attribute, entry.getValue());
+        }
+        List<Holiday> holidays = new ArrayList<>();
+        for (Map.Entry<String, Map<String, String>> entry : attributesByKey.entrySet()) {
+            holidays.add(compile(entry.getKey(), entry.getValue(), areaResolver));
+        }
+        return new HolidayDefinitionConfigurer(Collections.unmodifiableMap(definition), Collections.unmodifiableList(holidays),
+                weekend, Collections.unmodifiableMap(areaWeekends));
+    }
+
+    /**
+     * @return the compiled holidays in the order they are added to a calendar.
+     */
+    public List<Holiday> getHolidays() {
+        return holidays;
+    }
+
+    @Override
+    public void configure(HolidayCalendar holidayCalendar) {
+        if (weekend != null) {
+            holidayCalendar.setWeekend(weekend);
+        }
+        areaWeekends.forEach(holidayCalendar::setWeekend);
+        for (Holiday holiday : holidays) {
+            holidayCalendar.addHoliday(holiday);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof HolidayDefinitionConfigurer && definition.equals(((HolidayDefinitionConfigurer) o).definition);
+    }
+
+    @Override
+    public int hashCode() {
+        return definition.hashCode();
+    }
+
+    private static Holiday compile(String key, Map<String, String> attributes, Function<String, ? extends AdministrativeArea> areaResolver) {
+        List<String> rules = new ArrayList<>();
+        for (String attribute : Arrays.asList("date", "easter", "orthodoxEaster", "weekday")) {
+            if (attributes.containsKey(attribute)) {
+                rules.add(attribute + "=" + attributes.get(attribute));
+            }
+        }
+        if (rules.size() != 1) {
+            throw new HolidayException("The holiday " + key + " requires exactly one of the properties date, easter, orthodoxEaster or weekday");
+        }
+        Rule rule = rule(key, rules.get(0));
+        String name = attributes.getOrDefault("name", key);
+        AdministrativeArea[] areas = areas(key, attributes.get("areas"), areaResolver);
+        Holiday holiday = rule.create(key, name, areas);
+        int from = year(key, attributes.get("from"), rule.year == null ? Integer.MIN_VALUE : rule.year);
+        int until = year(key, attributes.get("until"), rule.year == null ? Integer.MAX_VALUE : rule.year);
+        if (from > holiday.getMinimalYear() || until < holiday.getMaximalYear()) {
+            holiday = new YearRestrictedHoliday(holiday, from, until);
+        }
+        return holiday;
+    }
+
+    private static Rule rule(String key, String text) {
+        Rule rule;
+        synchronized (RULES) {
+            rule = RULES.get(text);
+        }
+        if (rule == null) {
+            // parsed outside the lock, a rule parsed twice concurrently is equal
+            rule = parse(key, text);
+            synchronized (RULES) {
+                RULES.put(text, rule);
+            }
+        }
+        return rule;
+    }
+
+    /**
+     * @return the number of cached rules
+     */
+    static int cachedRules() {
+        synchronized (RULES) {
+            return RULES.size();
+        }
+    }
+
+    private static Rule parse(String key, String text) {
+        String attribute = text.substring(0, text.indexOf('='));
+        String value = text.substring(attribute.length() + 1);
+        try {
+            String[] tokens = value.split("\\s+");
+            switch (attribute) {
+                case "date":
+                    String[] parts = value.split("-");
+                    if (parts.length == 3) {
+                        return Rule.fixed(Integer.parseInt(parts[2]), Integer.parseInt(parts[1]), Integer.parseInt(parts[0]));
+                    }
+                    if (parts.length == 2) {
+                        return Rule.fixed(Integer.parseInt(parts[1]), Integer.parseInt(parts[0]), null);
+                    }
+                    break;
+                case "easter":
+                    return Rule.easter(Integer.parseInt(value));
+                case "orthodoxEaster":
+                    return Rule.orthodoxEaster(Integer.parseInt(value));
+                case "weekday":
+                    if (tokens.length == 4 && tokens[2].equalsIgnoreCase("of")) {
+                        return Rule.ordinal(ordinal(tokens[0]), DayOfWeek.valueOf(tokens[1].toUpperCase(Locale.ROOT)), Integer.parseInt(tokens[3]));
+                    }
+                    if (tokens.length == 3 && (tokens[1].equalsIgnoreCase("before") || tokens[1].equalsIgnoreCase("after"))) {
+                        String[] dayOfMonth = tokens[2].split("-");
+                        return Rule.relative(DayOfWeek.valueOf(tokens[0].toUpperCase(Locale.ROOT)), tokens[1].equalsIgnoreCase("before"),
+                                Integer.parseInt(dayOfMonth[1]), Integer.parseInt(dayOfMonth[0]));
+                    }
+                    break;
+                default:
+                    break;
+            }
+        } catch (IllegalArgumentException | DateTimeException | ArrayIndexOutOfBoundsException e) {
+            // reported below
+        }
+        throw new HolidayException("Invalid rule " + value + " of the holiday " + key);
+    }
+
+    private static Weekend weekend(String property, String days) {
+        List<DayOfWeek> daysOfWeek = new ArrayList<>();
+        for (String day : days.split(",")) {
+            if (day.trim().isEmpty()) {
+                continue;
+            }
+            try {
+                daysOfWeek.add(DayOfWeek.valueOf(day.trim().toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                throw new HolidayException("Invalid day of week " + day.trim() + " of the property " + property);
+            }
+        }
+        return Weekend.of(daysOfWeek.toArray(new DayOfWeek[0]));
+    }
+
+    private static int ordinal(String token) {
+        switch (token.toLowerCase(Locale.ROOT)) {
+            case "first": return 1;
+            case "second": return 2;
+            case "third": return 3;
+            case "fourth": return 4;
+            case "fifth": return 5;
+            case "last": return -1;
+            default: return Integer.parseInt(token);
+        }
+    }
+
+    private static AdministrativeArea[] areas(String key, String isoCodes, Function<String, ? extends AdministrativeArea> areaResolver) {
+        if (isoCodes == null || isoCodes.isEmpty()) {
+            return new AdministrativeArea[0];
+        }
+        String[] codes = isoCodes.split(",");
+        AdministrativeArea[] areas = new AdministrativeArea[codes.length];
+        for (int i = 0; i < codes.length; i++) {
+            areas[i] = areaResolver.apply(codes[i].trim());
+            if (areas[i] == null) {
+                throw new HolidayException("Unable to resolve the administrative area " + codes[i].trim() + " of the holiday " + key);
+            }
+        }
+        return areas;
+    }
+
+    private static int year(String key, String value, int defaultYear) {
+        if (value == null) {
+            return defaultYear;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new HolidayException("Invalid year " + value + " of the holiday " + key);
+        }
+    }
+
+    private static Function<String, AdministrativeArea> byIso(AdministrativeArea... areas) {
+        Map<String, AdministrativeArea> areasByIso = new HashMap<>();
+        for (AdministrativeArea area : areas == null ? new AdministrativeArea[0] : areas) {
+            areasByIso.put(area.getISO(), area);
+        }
+        return areasByIso::get;
+    }
+
+    /**
+     * A parsed rule, which creates holidays without parsing again.
+     */
+    private static final class Rule {
+
+        private final Function<HolidayValues, Holiday> factory;
+        private final Integer year;
+
+        private Rule(Function<HolidayValues, Holiday> factory, Integer year) {
+            this.factory = factory;
+            this.year = year;
+        }
+
+        private static Rule fixed(int day, int month, Integer year) {
+            // validates the day of month eagerly, February, 29 is accepted and takes place in leap years only
+            LocalDate.of(year == null ? 2000 : year, month, day);
+            return new Rule(v -> FixedHoliday.ofSpecificAreas(day, month, v.key, v.name, v.areas), year);
+        }
+
+        private static Rule easter(int offset) {
+            EasterRelativeHoliday.ofOffset(offset, null, "validation");
+            return new Rule(v -> EasterRelativeHoliday.ofOffset(offset, v.key, v.name, v.areas), null);
+        }
+
+        private static Rule orthodoxEaster(int offset) {
+            OrthodoxEasterHoliday.ofOffset(offset, null, "validation");
+            return new Rule(v -> OrthodoxEasterHoliday.ofOffset(offset, v.key, v.name, v.areas), null);
+        }
+
+        private static Rule ordinal(int ordinal, DayOfWeek dayOfWeek, int month) {
+            LocalDate.of(2000, month, 1);
+            WeekdayHoliday.ofOrdinal(ordinal, dayOfWeek, month, null, null);
+            return new Rule(v -> WeekdayHoliday.ofOrdinal(ordinal, dayOfWeek, month, v.key, v.name, v.areas), null);
+        }
+
+        private static Rule relative(DayOfWeek dayOfWeek, boolean before, int day, int month) {
+            LocalDate.of(2000, month, day);
+            return new Rule(v -> before
+                    ? WeekdayHoliday.ofBefore(dayOfWeek, day, month, v.key, v.name, v.areas)
+                    : WeekdayHoliday.ofAfter(dayOfWeek, day, month, v.key, v.name, v.areas), null);
+        }
+
+        private Holiday create(String key, String name, AdministrativeArea[] areas) {
+            return factory.apply(new HolidayValues(key, name, areas));
+        }
+    }
+
+    private static final class HolidayValues {
+
+        private final String key;
+        private final String name;
+        private final AdministrativeArea[] areas;
+
+        private HolidayValues(String key, String name, AdministrativeArea[] areas) {
+            this.key = key;
+            this.name = name;
+            this.areas = areas;
+        }
+    }
+
+}
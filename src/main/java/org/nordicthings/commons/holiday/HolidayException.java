@@ -7,4 +7,8 @@ public class HolidayException extends RuntimeException {
     public HolidayException(String message) {
         super(message);
     }
+
+    public HolidayException(String message, Throwable cause) {
+        super(message, cause);
+    }
 }
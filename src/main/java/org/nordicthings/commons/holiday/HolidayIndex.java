@@ -0,0 +1,499 @@
+package org.nordicthings.commons.holiday;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Compiled form of the holidays of a {@link HolidayCalendar}.
+ * <p>
+ * Every occurrence of every holiday within the period is resolved once and kept in two parallel arrays which are
+ * sorted by the epoch-day offset from the beginning of the period, so that the memory grows with the number of
+ * occurrences and not with the number of years. Holidays falling on the same day are all kept in the order they were
+ * added. In addition, for every administrative area a dense bitset holds one bit per day of the period. Nationwide
+ * holidays are held in a bitset of their own. A lookup is an array probe and does not allocate. A range of dates is
+ * located by binary search over the sorted offsets.
+ * <p>
+ * The {@link WorkingDays} tables are compiled on first use for every combination of areas with holidays of their own
+ * and weekend and cached afterwards; selectors are mapped to the table of their combination. They apply the weekend of
+ * all selected areas, see {@link Weekends}, and answer every working day query, so that the weekend is never checked
+ * apart from the holidays. Both caches are bounded by {@link #MAX_TABLES} and {@link #MAX_SELECTORS}, so that queries
+ * of arbitrary combinations of areas cannot exhaust the memory.
+ */
+final class HolidayIndex {
+
+    private static final AdministrativeArea[] NO_AREAS = new AdministrativeArea[0];
+
+    /**
+     * At most this number of {@link WorkingDays} tables is cached, further combinations are compiled on every use.
+     */
+    static final int MAX_TABLES = 64;
+
+    /**
+     * At most this number of selectors is mapped to their cached table, further selectors are resolved on every use.
+     */
+    static final int MAX_SELECTORS = 1024;
+
+    private final long startEpochDay;
+    private final int length;
+    private final int[] offsets;
+    private final Holiday[] occurrences;
+    private final long[] nationwide;
+    private final Map<AdministrativeArea, long[]> regional;
+    private final Weekends weekends;
+    private final ConcurrentMap<AreaSelector, WorkingDays> workingDays = new ConcurrentHashMap<>();
+    private final ConcurrentMap<TableKey, WorkingDays> tables = new ConcurrentHashMap<>();
+    private final ConcurrentMap<AdministrativeArea, WorkingDays> areaTables = new ConcurrentHashMap<>();
+    private volatile Map<LocalDate, Holiday> holidayMap;
+
+    private HolidayIndex(long startEpochDay, int length, int[] offsets, Holiday[] occurrences, long[] nationwide,
+                         Map<AdministrativeArea, long[]> regional, Weekends weekends) {
+        this.startEpochDay = startEpochDay;
+        this.length = length;
+        this.offsets = offsets;
+        this.occurrences = occurrences;
+        this.nationwide = nationwide;
+        this.regional = regional;
+        this.weekends = weekends;
+    }
+
+    /**
+     * Resolves every occurrence of the given holidays within the period.
+     *
+     * @param periodStart the first day covered by the index
+     * @param periodEnd the last day covered by the index
+     * @param holidays the holidays to be compiled in the order they were added
+     * @return the compiled index with the weekend of saturday and sunday
+     */
+    static HolidayIndex compile(LocalDate periodStart, LocalDate periodEnd, List<Holiday> holidays) {
+        return compile(periodStart, periodEnd, holidays, Weekends.DEFAULT);
+    }
+
+    /**
+     * Resolves every occurrence of the given holidays within the period.
+     *
+     * @param periodStart the first day covered by the index
+     * @param periodEnd the last day covered by the index
+     * @param holidays the holidays to be compiled in the order they were added
+     * @param weekends the weekends of the calendar
+     * @return the compiled index
+     */
+    static HolidayIndex compile(LocalDate periodStart, LocalDate periodEnd, List<Holiday> holidays, Weekends weekends) {
+        long startEpochDay = periodStart.toEpochDay();
+        int length = (int) (periodEnd.toEpochDay() - startEpochDay + 1);
+
+        // offset in the upper, position of the holiday in the lower half, so that sorting keeps the adding order
+        long[] keys = new long[16];
+        int count = 0;
+        for (int position = 0; position < holidays.size(); position++) {
+            Holiday holiday = holidays.get(position);
+            for (int year = periodStart.getYear(); year <= periodEnd.getYear(); year++) {
+                if (!holiday.isValidYear(year)) {
+                    continue;
+                }
+                long offset = epochDay(holiday, year) - startEpochDay;
+                if (offset >= 0 && offset < length) {
+                    if (count == keys.length) {
+                        keys = Arrays.copyOf(keys, count * 2);
+                    }
+                    keys[count++] = offset << 32 | position;
+                }
+            }
+        }
+        Arrays.sort(keys, 0, count);
+
+        int[] offsets = new int[count];
+        Holiday[] occurrences = new Holiday[count];
+        for (int i = 0; i < count; i++) {
+            offsets[i] = (int) (keys[i] >>> 32);
+            occurrences[i] = holidays.get((int) keys[i]);
+        }
+        return of(startEpochDay, length, offsets, occurrences, weekends);
+    }
+
+    private static long epochDay(Holiday holiday, int year) {
+        if (holiday instanceof EasterRelativeHoliday) {
+            return ((EasterRelativeHoliday) holiday).getEpochDay(year);
+        }
+        return holiday.getDate(year).toEpochDay();
+    }
+
+    /**
+     * Creates an index from already resolved occurrences.
+     *
+     * @param startEpochDay the first day covered by the index as epoch day
+     * @param length the number of days covered by the index
+     * @param offsets the offsets of the occurrences from the first day in ascending order
+     * @param occurrences the holidays of the occurrences, parallel to the offsets
+     * @param weekends the weekends of the calendar
+     * @return the index
+     */
+    static HolidayIndex of(long startEpochDay, int length, int[] offsets, Holiday[] occurrences, Weekends weekends) {
+        long[] nationwide = newBitset(length);
+        Map<AdministrativeArea, long[]> regional = new HashMap<>();
+        for (int i = 0; i < offsets.length; i++) {
+            Holiday holiday = occurrences[i];
+            if (holiday.isNationWide()) {
+                set(nationwide, offsets[i]);
+            } else {
+                for (AdministrativeArea area : holiday.getAdministrativeAreas()) {
+                    set(regional.computeIfAbsent(area, a -> newBitset(length)), offsets[i]);
+                }
+            }
+        }
+        return new HolidayIndex(startEpochDay, length, offsets, occurrences, nationwide, regional, weekends);
+    }
+
+    /**
+     * Takes over the resolved occurrences within a part of the period, so that the holidays need not be resolved
+     * again.
+     *
+     * @param periodStart the first day of the part, which must lie within the period
+     * @param periodEnd the last day of the part, which must lie within the period
+     * @return the index of the part with the same weekends
+     */
+    HolidayIndex slice(LocalDate periodStart, LocalDate periodEnd) {
+        long sliceStart = periodStart.toEpochDay();
+        int sliceLength = (int) (periodEnd.toEpochDay() - sliceStart + 1);
+        int first = firstOccurrenceFrom(sliceStart);
+        int end = firstOccurrenceFrom(sliceStart + sliceLength);
+        int shift = (int) (sliceStart - startEpochDay);
+        int[] sliceOffsets = new int[end - first];
+        for (int i = 0; i < sliceOffsets.length; i++) {
+            sliceOffsets[i] = offsets[first + i] - shift;
+        }
+        return of(sliceStart, sliceLength, sliceOffsets, Arrays.copyOfRange(occurrences, first, end), weekends);
+    }
+
+    /**
+     * @return true: there is no occurrence of any holiday within the period.
+     */
+    boolean isEmpty() {
+        return offsets.length == 0;
+    }
+
+    /**
+     * @return the number of occurrences within the period.
+     */
+    int size() {
+        return offsets.length;
+    }
+
+    /**
+     * @param position the position of an occurrence in date order
+     * @return the offset of the occurrence from the beginning of the period
+     */
+    int offsetAt(int position) {
+        return offsets[position];
+    }
+
+    /**
+     * @param position the position of an occurrence in date order
+     * @return the holiday of the occurrence
+     */
+    Holiday holidayAt(int position) {
+        return occurrences[position];
+    }
+
+    /**
+     * @param epochDay the day to be checked, given as epoch day
+     * @param areas the administrative areas of interest, may be empty
+     * @return true: the day is a nationwide holiday or a holiday in at least one of the given areas. Days outside
+     * of the indexed period are never holidays.
+     */
+    boolean isHoliday(long epochDay, AdministrativeArea... areas) {
+        long offset = epochDay - startEpochDay;
+        if (offset < 0 || offset >= length) {
+            return false;
+        }
+        int day = (int) offset;
+        if (isSet(nationwide, day)) {
+            return true;
+        }
+        for (AdministrativeArea area : areas == null ? NO_AREAS : areas) {
+            long[] bits = regional.get(area);
+            if (bits != null && isSet(bits, day)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param epochDay the day to be checked, given as epoch day
+     * @param areas the administrative areas of interest, may be empty
+     * @return true: the day is neither a weekend nor a holiday in the given areas
+     */
+    boolean isWorkingDay(long epochDay, AdministrativeArea... areas) {
+        return workingDays(areas).isWorkingDay(epochDay);
+    }
+
+    /**
+     * @return the weekends the index was compiled with
+     */
+    Weekends weekends() {
+        return weekends;
+    }
+
+    /**
+     * @param epochDay any day given as epoch day
+     * @return the offset of the day from the beginning of the period or -1 if the day lies outside of the period.
+     */
+    int offsetOf(long epochDay) {
+        long offset = epochDay - startEpochDay;
+        return offset < 0 || offset >= length ? -1 : (int) offset;
+    }
+
+    /**
+     * @param offset an offset within the period
+     * @return all holidays falling on the day at the given offset in the order they were added, may be empty
+     */
+    List<Holiday> holidaysAt(int offset) {
+        int first = firstOccurrence(offset);
+        int end = first;
+        while (end < offsets.length && offsets[end] == offset) {
+            end++;
+        }
+        if (first == end) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(Arrays.asList(Arrays.copyOfRange(occurrences, first, end)));
+    }
+
+    /**
+     * @param fromEpochDay the first day of the range, inclusive
+     * @param toEpochDay the last day of the range, inclusive
+     * @param selector the administrative areas of interest
+     * @return all occurrences within the range which are nationwide or public in one of the selected areas, ordered
+     * by date and by the adding order on the same date
+     */
+    Stream<ConcreteHoliday> occurrences(long fromEpochDay, long toEpochDay, AreaSelector selector) {
+        return IntStream.range(firstOccurrenceFrom(fromEpochDay), firstOccurrenceFrom(toEpochDay + 1))
+                .filter(i -> isPublicIn(occurrences[i], selector))
+                .mapToObj(i -> ConcreteHoliday.of(dateAt(offsets[i]), occurrences[i]));
+    }
+
+    /**
+     * @param holiday a holiday of the index
+     * @param selector the administrative areas of interest
+     * @return true: the holiday is nationwide or public in one of the selected areas by the same definition the
+     * bitsets are built from
+     */
+    private static boolean isPublicIn(Holiday holiday, AreaSelector selector) {
+        if (holiday.isNationWide()) {
+            return true;
+        }
+        for (AdministrativeArea area : holiday.getAdministrativeAreas()) {
+            if (selector.contains(area)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int firstOccurrenceFrom(long epochDay) {
+        long offset = epochDay - startEpochDay;
+        if (offset <= 0) {
+            return 0;
+        }
+        return offset >= length ? offsets.length : firstOccurrence((int) offset);
+    }
+
+    /**
+     * @param offset an offset within the period
+     * @return the position of the first occurrence on or after the given offset
+     */
+    private int firstOccurrence(int offset) {
+        int low = 0;
+        int high = offsets.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (offsets[middle] < offset) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @param offset an offset within the period
+     * @return the date at the given offset
+     */
+    LocalDate dateAt(int offset) {
+        return LocalDate.ofEpochDay(startEpochDay + offset);
+    }
+
+    /**
+     * @param offset an offset within the period
+     * @return the epoch day at the given offset
+     */
+    long epochDayAt(int offset) {
+        return startEpochDay + offset;
+    }
+
+    /**
+     * Resolving the areas does not allocate unless several of them have holidays or weekends of their own, in which
+     * case an {@link AreaSelector} should be used by the caller.
+     *
+     * @param areas the administrative areas of interest, may be empty
+     * @return the working days with regard to the nationwide holidays and the holidays of the given areas
+     */
+    WorkingDays workingDays(AdministrativeArea... areas) {
+        // no area and a single area with holidays or a weekend of its own, possibly among areas without any, are
+        // resolved without allocating; only several such areas are resolved through a selector
+        AdministrativeArea relevant = null;
+        boolean standard = false;
+        for (AdministrativeArea area : areas == null ? NO_AREAS : areas) {
+            if (area == null) {
+                continue;
+            }
+            if (!regional.containsKey(area) && !weekends.isDeviating(area)) {
+                standard = true;
+            } else if (relevant == null) {
+                relevant = area;
+            } else if (!relevant.equals(area)) {
+                return workingDays(selectorOf(areas));
+            }
+        }
+        if (relevant == null) {
+            return workingDays(AreaSelector.nationwide());
+        }
+        if (standard && weekends.isDeviating(relevant)) {
+            return workingDays(selectorOf(areas));
+        }
+        WorkingDays table = areaTables.get(relevant);
+        if (table == null) {
+            table = workingDays(AreaSelector.of(relevant));
+            areaTables.putIfAbsent(relevant, table);
+        }
+        return table;
+    }
+
+    /**
+     * @param selector the administrative areas of interest
+     * @return the working days with regard to the nationwide holidays and the holidays of the selected areas
+     */
+    WorkingDays workingDays(AreaSelector selector) {
+        WorkingDays table = workingDays.get(selector);
+        if (table == null) {
+            // selectors which differ only in areas without holidays of their own share the table of the same
+            // holidays and weekend, the weekend is taken from all selected areas
+            TableKey key = new TableKey(regionalAreas(selector.getAreas()), weekends.mask(selector.getAreas()));
+            table = tables.get(key);
+            if (table == null) {
+                table = tables.size() < MAX_TABLES ? tables.computeIfAbsent(key, this::compileWorkingDays) : compileWorkingDays(key);
+            }
+            if (workingDays.size() < MAX_SELECTORS) {
+                workingDays.putIfAbsent(selector, table);
+            }
+        }
+        return table;
+    }
+
+    private static AreaSelector selectorOf(AdministrativeArea... areas) {
+        if (areas == null || areas.length == 0) {
+            return AreaSelector.nationwide();
+        }
+        List<AdministrativeArea> selected = new ArrayList<>(areas.length);
+        for (AdministrativeArea area : areas) {
+            if (area != null) {
+                selected.add(area);
+            }
+        }
+        return AreaSelector.of(selected);
+    }
+
+    private AreaSelector regionalAreas(Collection<AdministrativeArea> areas) {
+        List<AdministrativeArea> relevant = null;
+        for (AdministrativeArea area : areas) {
+            if (regional.containsKey(area)) {
+                if (relevant == null) {
+                    relevant = new ArrayList<>();
+                }
+                relevant.add(area);
+            }
+        }
+        return relevant == null ? AreaSelector.nationwide() : AreaSelector.of(relevant);
+    }
+
+    private WorkingDays compileWorkingDays(TableKey key) {
+        long[] holidays = nationwide.clone();
+        for (AdministrativeArea area : key.areas.getAreas()) {
+            long[] bits = regional.get(area);
+            for (int i = 0; i < holidays.length; i++) {
+                holidays[i] |= bits[i];
+            }
+        }
+        return WorkingDays.compile(startEpochDay, length, holidays, key.weekend);
+    }
+
+    /**
+     * @return the number of cached {@link WorkingDays} tables
+     */
+    int cachedTables() {
+        return tables.size();
+    }
+
+    /**
+     * @return all occurrences within the period as an unmodifiable map which iterates in the order of the dates. If
+     * several holidays fall on the same day, the map holds the holiday added last.
+     */
+    Map<LocalDate, Holiday> toMap() {
+        Map<LocalDate, Holiday> map = holidayMap;
+        if (map == null) {
+            Map<LocalDate, Holiday> occurrenceMap = new LinkedHashMap<>();
+            for (int i = 0; i < offsets.length; i++) {
+                occurrenceMap.put(LocalDate.ofEpochDay(startEpochDay + offsets[i]), occurrences[i]);
+            }
+            map = Collections.unmodifiableMap(occurrenceMap);
+            holidayMap = map;
+        }
+        return map;
+    }
+
+    private static long[] newBitset(int length) {
+        return new long[(length + 63) >>> 6];
+    }
+
+    private static void set(long[] bits, int index) {
+        bits[index >>> 6] |= 1L << index;
+    }
+
+    private static boolean isSet(long[] bits, int index) {
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Identifies a {@link WorkingDays} table by the areas whose holidays are merged and by the days of the weekend.
+     */
+    private static final class TableKey {
+
+        private final AreaSelector areas;
+        private final int weekend;
+
+        private TableKey(AreaSelector areas, int weekend) {
+            this.areas = areas;
+            this.weekend = weekend;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof TableKey)) {
+                return false;
+            }
+            TableKey other = (TableKey) o;
+            return weekend == other.weekend && areas.equals(other.areas);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * areas.hashCode() + weekend;
+        }
+    }
+
+}
@@ -0,0 +1,263 @@
+package org.nordicthings.commons.holiday;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A holiday calendar for a long range of years which resolves its holidays year by year. The calendar of a year is
+ * built by the configurer on the first query for that year and is held as frozen {@link HolidayCalendar}. Only a
+ * limited number of years is kept resident, the least recently used years are evicted and built again when they are
+ * queried later. Startup time and memory therefore depend on the years actually in use and not on the length of the
+ * range.
+ * <p>
+ * Days outside of the range of years are never holidays, but weekends according to the weekends configured for the
+ * nearest covered year. All methods are thread-safe.
+ */
+public class LazyHolidayCalendar {
+
+    private final int firstYear;
+    private final int lastYear;
+    private final HolidayCalendarConfigurer configurer;
+    private final HolidayCalendarCache years;
+
+    private LazyHolidayCalendar(int firstYear, int lastYear, HolidayCalendarConfigurer configurer, int maximumResidentYears) {
+        this.firstYear = firstYear;
+        this.lastYear = lastYear;
+        this.configurer = configurer;
+        this.years = HolidayCalendarCache.builder()
+                .maximumSize(maximumResidentYears)
+                .build();
+    }
+
+    /**
+     * @return a Builder to create a new instance of LazyHolidayCalendar
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the first year covered by the calendar.
+     */
+    public int getFirstYear() {
+        return firstYear;
+    }
+
+    /**
+     * @return the last year covered by the calendar.
+     */
+    public int getLastYear() {
+        return lastYear;
+    }
+
+    /**
+     * @param year a year covered by the calendar.
+     * @return the frozen calendar of the given year, which is built if it is not resident.
+     */
+    public HolidayCalendar getCalendar(int year) {
+        if (!isCovered(year)) {
+            throw new IllegalArgumentException("The year " + year + " lies outside of the years between " + firstYear + " and " + lastYear);
+        }
+        return years.get(configurer, year);
+    }
+
+    /**
+     * @param date  any date.
+     * @param areas optional administrative areas for which the given date shall be checked.
+     * @return true: the given date is a public holiday in one or more of the given areas. If no areas are specified,
+     * the method only returns true if the holiday is not a regional holiday.
+     */
+    public boolean isHoliday(LocalDate date, AdministrativeArea... areas) {
+        if (date == null) {
+            throw new IllegalArgumentException("Unable to determine holiday for a date of null");
+        }
+        return isCovered(date.getYear()) && getCalendar(date.getYear()).isHoliday(date, areas);
+    }
+
+    /**
+     * @param date  any date.
+     * @param selector the precompiled administrative areas for which the given date shall be checked.
+     * @return true: the given date is a nationwide public holiday or a public holiday in one or more of the selected
+     * areas.
+     */
+    public boolean isHoliday(LocalDate date, AreaSelector selector) {
+        if (date == null) {
+            throw new IllegalArgumentException("Unable to determine holiday for a date of null");
+        }
+        return isCovered(date.getYear()) && getCalendar(date.getYear()).isHoliday(date, selector);
+    }
+
+    /**
+     * @param date  any date.
+     * @param areas optional administrative areas for which the given date shall be checked.
+     * @return true: the given date is a working day in all given areas.
+     */
+    public boolean isWorkingDay(LocalDate date, AdministrativeArea... areas) {
+        if (date == null) {
+            throw new IllegalArgumentException("Unable to determine working day for a date of null");
+        }
+        // outside of its period a calendar only takes the weekends of the given areas into account
+        return getCalendar(nearestCoveredYear(date.getYear())).isWorkingDay(date, areas);
+    }
+
+    /**
+     * @param date  any date.
+     * @param selector the precompiled administrative areas for which the given date shall be checked.
+     * @return true: the given date is a working day in all selected areas.
+     */
+    public boolean isWorkingDay(LocalDate date, AreaSelector selector) {
+        if (date == null) {
+            throw new IllegalArgumentException("Unable to determine working day for a date of null");
+        }
+        return getCalendar(nearestCoveredYear(date.getYear())).isWorkingDay(date, selector);
+    }
+
+    /**
+     * @param date any date.
+     * @return all holidays falling on the given date in the order they were added, regardless of their administrative
+     * areas.
+     */
+    public List<Holiday> getHolidaysOn(LocalDate date) {
+        if (date == null) {
+            throw new IllegalArgumentException("Unable to determine holidays for a date of null");
+        }
+        return isCovered(date.getYear()) ? getCalendar(date.getYear()).getHolidaysOn(date) : Collections.emptyList();
+    }
+
+    /**
+     * @param date  a date within the years covered by the calendar.
+     * @param areas optional administrative areas for which the next working day shall be calculated.
+     * @return the next working day on or after the given date within the years covered by the calendar, empty if the
+     * given date lies outside of these years.
+     */
+    public Optional<LocalDate> getNextWorkingDay(LocalDate date, AdministrativeArea... areas) {
+        if (date == null) {
+            throw new IllegalArgumentException("Unable to determine working day for a date of null");
+        }
+        if (!isCovered(date.getYear())) {
+            return Optional.empty();
+        }
+        LocalDate day = date;
+        for (int year = date.getYear(); year <= lastYear; year++) {
+            if (day.getYear() != year) {
+                day = LocalDate.of(year, 1, 1);
+            }
+            Optional<LocalDate> workingDay = getCalendar(year).getNextWorkingDay(day, areas);
+            if (workingDay.isPresent()) {
+                return workingDay;
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @param date  a date within the years covered by the calendar.
+     * @param areas optional administrative areas for which the previous working day shall be calculated.
+     * @return the previous working day on or before the given date within the years covered by the calendar, empty if
+     * the given date lies outside of these years.
+     */
+    public Optional<LocalDate> getPreviousWorkingDay(LocalDate date, AdministrativeArea... areas) {
+        if (date == null) {
+            throw new IllegalArgumentException("Unable to determine working day for a date of null");
+        }
+        if (!isCovered(date.getYear())) {
+            return Optional.empty();
+        }
+        LocalDate day = date;
+        for (int year = date.getYear(); year >= firstYear; year--) {
+            if (day.getYear() != year) {
+                day = LocalDate.of(year, 12, 31);
+            }
+            Optional<LocalDate> workingDay = getCalendar(year).getPreviousWorkingDay(day, areas);
+            if (workingDay.isPresent()) {
+                return workingDay;
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @return the number of years currently held in memory.
+     */
+    public int getResidentYears() {
+        return years.size();
+    }
+
+    /**
+     * @return the statistics of building and evicting the calendars of the years.
+     */
+    public HolidayCalendarCache.Statistics getStatistics() {
+        return years.getStatistics();
+    }
+
+    private boolean isCovered(int year) {
+        return year >= firstYear && year <= lastYear;
+    }
+
+    private int nearestCoveredYear(int year) {
+        return Math.max(firstYear, Math.min(lastYear, year));
+    }
+
+    public static class Builder {
+
+        static final int DEFAULT_MAXIMUM_RESIDENT_YEARS = 10;
+
+        private Integer firstYear;
+        private Integer lastYear;
+        private HolidayCalendarConfigurer configurer;
+        private int maximumResidentYears = DEFAULT_MAXIMUM_RESIDENT_YEARS;
+
+        private Builder() {}
+
+        /**
+         * @param firstYear the first year covered by the calendar.
+         * @param lastYear the last year covered by the calendar.
+         * @return the Builder instance
+         */
+        public Builder forYears(int firstYear, int lastYear) {
+            this.firstYear = firstYear;
+            this.lastYear = lastYear;
+            return this;
+        }
+
+        /**
+         * @param configurer the configurer which adds the holidays to the calendar of every year.
+         * @return the Builder instance
+         */
+        public Builder configurer(HolidayCalendarConfigurer configurer) {
+            this.configurer = configurer;
+            return this;
+        }
+
+        /**
+         * @param maximumResidentYears the maximum number of years held in memory at the same time.
+         * @return the Builder instance
+         */
+        public Builder maximumResidentYears(int maximumResidentYears) {
+            this.maximumResidentYears = maximumResidentYears;
+            return this;
+        }
+
+        /**
+         * @return the new instance of LazyHolidayCalendar.
+         */
+        public LazyHolidayCalendar build() {
+            if (firstYear == null || lastYear == null) {
+                throw new IllegalStateException("The years of a lazy holiday calendar must not be null");
+            }
+            if (lastYear < firstYear) {
+                throw new IllegalStateException("The last year " + lastYear + " is before the first year " + firstYear);
+            }
+            if (configurer == null) {
+                throw new IllegalStateException("A lazy holiday calendar requires a configurer");
+            }
+            if (maximumResidentYears < 1) {
+                throw new IllegalStateException("A lazy holiday calendar has to keep at least one year resident");
+            }
+            return new LazyHolidayCalendar(firstYear, lastYear, configurer, maximumResidentYears);
+        }
+    }
+
+}
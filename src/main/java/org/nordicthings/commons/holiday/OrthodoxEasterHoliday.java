@@ -0,0 +1,130 @@
+package org.nordicthings.commons.holiday;
+
+import java.time.LocalDate;
+
+/**
+ * A movable feast of the Eastern Orthodox Church at a fixed number of days before or after Orthodox Easter sunday,
+ * which is determined by the Julian computus. The dates are resolved from the precomputed dates of Orthodox Easter
+ * sunday, see {@link OrthodoxEasterTable}, so that a query is as cheap as for a fixed holiday.
+ */
+public class OrthodoxEasterHoliday extends AbstractHoliday {
+
+    /**
+     * The smallest offset for which the holiday stays within the year of Orthodox Easter sunday, which is April, 1 at
+     * the earliest.
+     */
+    static final int MINIMAL_OFFSET = -90;
+
+    /**
+     * The largest offset for which the holiday stays within the year of Orthodox Easter sunday, which is June, 24 at
+     * the latest.
+     */
+    static final int MAXIMAL_OFFSET = 190;
+
+    private final int offset;
+
+    private OrthodoxEasterHoliday(int offset, String key, String name, AdministrativeArea... administrativeAreas) {
+        super(key, name, administrativeAreas);
+        this.offset = offset;
+    }
+
+    /**
+     * @param days the number of days between Orthodox Easter sunday and the holiday, negative for holidays before.
+     * @param name the human-readable name to be used for the instance.
+     * @return a new instance with national validity. Key is set with its default value.
+     */
+    public static OrthodoxEasterHoliday ofOffset(int days, String name) {
+        return ofOffset(days, null, name);
+    }
+
+    /**
+     * @param days the number of days between Orthodox Easter sunday and the holiday, negative for holidays before.
+     * @param key the unique key to be used for the instance.
+     * @param name the human-readable name to be used for the instance.
+     * @param administrativeAreas the administrative areas for which the holiday is valid.
+     * @return a new instance with the given values.
+     */
+    public static OrthodoxEasterHoliday ofOffset(int days, String key, String name, AdministrativeArea... administrativeAreas) {
+        if (days < MINIMAL_OFFSET || days > MAXIMAL_OFFSET) {
+            throw new IllegalArgumentException("The offset of a holiday relative to Orthodox Easter has to be between " + MINIMAL_OFFSET + " and " + MAXIMAL_OFFSET + " days");
+        }
+        return new OrthodoxEasterHoliday(days, key, name, administrativeAreas);
+    }
+
+    /**
+     * @param name the human-readable name to be used for the instance.
+     * @param administrativeAreas the administrative areas for which the holiday is valid, nationwide if empty.
+     * @return Orthodox Good Friday, two days before Orthodox Easter sunday.
+     */
+    public static OrthodoxEasterHoliday goodFriday(String name, AdministrativeArea... administrativeAreas) {
+        return ofOffset(-2, null, name, administrativeAreas);
+    }
+
+    /**
+     * @param name the human-readable name to be used for the instance.
+     * @param administrativeAreas the administrative areas for which the holiday is valid, nationwide if empty.
+     * @return Orthodox Easter sunday.
+     */
+    public static OrthodoxEasterHoliday easterSunday(String name, AdministrativeArea... administrativeAreas) {
+        return ofOffset(0, null, name, administrativeAreas);
+    }
+
+    /**
+     * @param name the human-readable name to be used for the instance.
+     * @param administrativeAreas the administrative areas for which the holiday is valid, nationwide if empty.
+     * @return Orthodox Easter monday.
+     */
+    public static OrthodoxEasterHoliday easterMonday(String name, AdministrativeArea... administrativeAreas) {
+        return ofOffset(1, null, name, administrativeAreas);
+    }
+
+    /**
+     * @param name the human-readable name to be used for the instance.
+     * @param administrativeAreas the administrative areas for which the holiday is valid, nationwide if empty.
+     * @return Orthodox Pentecost, 49 days after Orthodox Easter sunday.
+     */
+    public static OrthodoxEasterHoliday pentecost(String name, AdministrativeArea... administrativeAreas) {
+        return ofOffset(49, null, name, administrativeAreas);
+    }
+
+    /**
+     * @param name the human-readable name to be used for the instance.
+     * @param administrativeAreas the administrative areas for which the holiday is valid, nationwide if empty.
+     * @return Orthodox Whit monday, 50 days after Orthodox Easter sunday.
+     */
+    public static OrthodoxEasterHoliday whitMonday(String name, AdministrativeArea... administrativeAreas) {
+        return ofOffset(50, null, name, administrativeAreas);
+    }
+
+    /**
+     * @return the number of days between Orthodox Easter sunday and the holiday.
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    @Override
+    public LocalDate getDate(int year) {
+        if (!isValidYear(year)) {
+            throw new HolidayException("The calculation of " + getName() + " relies on Orthodox Easter sunday and therefore can only be determined for the years between " + getMinimalYear() + " and " + getMaximalYear());
+        }
+        return OrthodoxEasterTable.getDate(year, offset);
+    }
+
+    /**
+     * @return the last year of the precomputed dates of Orthodox Easter sunday
+     */
+    @Override
+    public int getMaximalYear() {
+        return OrthodoxEasterTable.MAXIMAL_YEAR;
+    }
+
+    /**
+     * @return the first year of the precomputed dates of Orthodox Easter sunday
+     */
+    @Override
+    public int getMinimalYear() {
+        return OrthodoxEasterTable.MINIMAL_YEAR;
+    }
+
+}
@@ -0,0 +1,71 @@
+package org.nordicthings.commons.holiday;
+
+import java.time.LocalDate;
+import java.time.Year;
+
+/**
+ * Precomputed dates of the Orthodox Easter sunday for all years supported by {@link OrthodoxEasterHoliday}. Orthodox
+ * Easter is determined by the Julian computus and converted to the Gregorian calendar. The table is filled once when
+ * the class is initialized and holds the date as day of March in the Gregorian calendar (32. March = 1. April etc.),
+ * which takes one byte per year.
+ */
+final class OrthodoxEasterTable {
+
+    /**
+     * The conversion to the Gregorian calendar starts in 1583.
+     */
+    static final int MINIMAL_YEAR = 1583;
+
+    /**
+     * Same maximum year as the Western Easter sunday.
+     */
+    static final int MAXIMAL_YEAR = 8202;
+
+    private static final byte[] MARCH_DAYS = new byte[MAXIMAL_YEAR - MINIMAL_YEAR + 1];
+
+    static {
+        for (int year = MINIMAL_YEAR; year <= MAXIMAL_YEAR; year++) {
+            MARCH_DAYS[year - MINIMAL_YEAR] = (byte) computeMarchDay(year);
+        }
+    }
+
+    private OrthodoxEasterTable() {}
+
+    /**
+     * @param year the year of interest
+     * @return true: the table holds the date of Orthodox Easter sunday for the given year
+     */
+    static boolean isValidYear(int year) {
+        return year >= MINIMAL_YEAR && year <= MAXIMAL_YEAR;
+    }
+
+    /**
+     * @param year a year between {@link #MINIMAL_YEAR} and {@link #MAXIMAL_YEAR}
+     * @param offset the number of days between Orthodox Easter sunday and the requested date, may be negative
+     * @return the date which lies the given number of days after Orthodox Easter sunday of the given year
+     */
+    static LocalDate getDate(int year, int offset) {
+        int daysBeforeMarch = Year.isLeap(year) ? 60 : 59;
+        return LocalDate.ofYearDay(year, daysBeforeMarch + MARCH_DAYS[year - MINIMAL_YEAR] + offset);
+    }
+
+    /**
+     * Calculates Orthodox Easter sunday by the Julian computus in the version of Jean Meeus and converts it to the
+     * Gregorian calendar. See https://en.wikipedia.org/wiki/Date_of_Easter#Julian_calendar
+     *
+     * @param year the year of interest
+     * @return Orthodox Easter sunday as day of March in the Gregorian calendar (32. March = 1. April etc.)
+     */
+    private static int computeMarchDay(int year) {
+        int a = year % 4;
+        int b = year % 7;
+        int c = year % 19;
+        int d = (19 * c + 15) % 30;
+        int e = (2 * a + 4 * b - d + 34) % 7;
+        int julianMarchDay = d + e + 22;
+        // the difference between both calendars changes on February, 29 of the Julian calendar, before Easter
+        int difference = year / 100 - year / 400 - 2;
+        return julianMarchDay + difference;
+    }
+
+}
@@ -0,0 +1,54 @@
+package org.nordicthings.commons.holiday;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * A holiday whose dates are not calculated but given as list of concrete dates, one per year at most. Used for
+ * calendars restored by the {@link HolidayCalendarReader}.
+ */
+final class ResolvedHoliday extends AbstractHoliday {
+
+    private final int[] years;
+    private final long[] epochDays;
+
+    /**
+     * @param key the unique key of the holiday
+     * @param name the human-readable name of the holiday
+     * @param epochDays the dates of the holiday as epoch days in ascending order, one per year at most
+     * @param administrativeAreas the administrative areas for which the holiday is valid
+     */
+    ResolvedHoliday(String key, String name, long[] epochDays, AdministrativeArea... administrativeAreas) {
+        super(key, name, administrativeAreas);
+        this.epochDays = epochDays;
+        this.years = new int[epochDays.length];
+        for (int i = 0; i < epochDays.length; i++) {
+            years[i] = LocalDate.ofEpochDay(epochDays[i]).getYear();
+        }
+    }
+
+    @Override
+    public LocalDate getDate(int year) {
+        int position = Arrays.binarySearch(years, year);
+        if (position < 0) {
+            throw new HolidayException(getName() + " is not resolved for the year " + year);
+        }
+        return LocalDate.ofEpochDay(epochDays[position]);
+    }
+
+    @Override
+    public boolean isValidYear(int year) {
+        return Arrays.binarySearch(years, year) >= 0;
+    }
+
+    @Override
+    public int getMinimalYear() {
+        return years.length == 0 ? super.getMinimalYear() : years[0];
+    }
+
+    @Override
+    public int getMaximalYear() {
+        return years.length == 0 ? super.getMaximalYear() : years[years.length - 1];
+    }
+
+}
@@ -0,0 +1,93 @@
+package org.nordicthings.commons.holiday;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjuster;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Generic holiday on a certain day of week, which is determined relative to a month or to a fixed date, e.g. the last
+ * monday of May or the wednesday before November, 23. A fifth day of week within a month only takes place in the years
+ * in which the month has five of them.
+ */
+public class WeekdayHoliday extends AbstractHoliday {
+
+    private final int month;
+    private final int day;
+    private final TemporalAdjuster adjuster;
+    private final boolean withinMonth;
+
+    private WeekdayHoliday(int month, int day, TemporalAdjuster adjuster, boolean withinMonth, String key, String name, AdministrativeArea... administrativeAreas) {
+        super(key, name, administrativeAreas);
+        this.month = month;
+        this.day = day;
+        this.adjuster = adjuster;
+        this.withinMonth = withinMonth;
+    }
+
+    /**
+     * @param ordinal the ordinal of the day of week within the month, 1 to 5 counting from the beginning and -1 to -5
+     *                counting from the end of the month.
+     * @param dayOfWeek the day of week
+     * @param month the month
+     * @param key the unique key to be used for the instance.
+     * @param name the human-readable name to be used for the instance.
+     * @param administrativeAreas the administrative areas for which the holiday is valid.
+     * @return a new instance, e.g. {@code ofOrdinal(-1, DayOfWeek.MONDAY, 5, ...)} for the last monday of May.
+     */
+    public static WeekdayHoliday ofOrdinal(int ordinal, DayOfWeek dayOfWeek, int month, String key, String name, AdministrativeArea... administrativeAreas) {
+        if (ordinal == 0 || ordinal < -5 || ordinal > 5) {
+            throw new IllegalArgumentException("The ordinal of a day of week within a month has to be between 1 and 5 or between -5 and -1");
+        }
+        return new WeekdayHoliday(month, 1, TemporalAdjusters.dayOfWeekInMonth(ordinal, dayOfWeek), true, key, name, administrativeAreas);
+    }
+
+    /**
+     * @param dayOfWeek the day of week
+     * @param day the day of month of the fixed date
+     * @param month the month of the fixed date
+     * @param key the unique key to be used for the instance.
+     * @param name the human-readable name to be used for the instance.
+     * @param administrativeAreas the administrative areas for which the holiday is valid.
+     * @return a new instance on the last given day of week before the fixed date.
+     */
+    public static WeekdayHoliday ofBefore(DayOfWeek dayOfWeek, int day, int month, String key, String name, AdministrativeArea... administrativeAreas) {
+        return new WeekdayHoliday(month, day, TemporalAdjusters.previous(dayOfWeek), false, key, name, administrativeAreas);
+    }
+
+    /**
+     * @param dayOfWeek the day of week
+     * @param day the day of month of the fixed date
+     * @param month the month of the fixed date
+     * @param key the unique key to be used for the instance.
+     * @param name the human-readable name to be used for the instance.
+     * @param administrativeAreas the administrative areas for which the holiday is valid.
+     * @return a new instance on the first given day of week after the fixed date.
+     */
+    public static WeekdayHoliday ofAfter(DayOfWeek dayOfWeek, int day, int month, String key, String name, AdministrativeArea... administrativeAreas) {
+        return new WeekdayHoliday(month, day, TemporalAdjusters.next(dayOfWeek), false, key, name, administrativeAreas);
+    }
+
+    @Override
+    public LocalDate getDate(int year) {
+        LocalDate date = resolve(year);
+        if (date == null) {
+            throw new HolidayException(getName() + " does not take place in " + year);
+        }
+        return date;
+    }
+
+    /**
+     * @return false for the years in which the month has less days of week than the ordinal of the holiday.
+     */
+    @Override
+    public boolean isValidYear(int year) {
+        return super.isValidYear(year) && resolve(year) != null;
+    }
+
+    private LocalDate resolve(int year) {
+        LocalDate date = LocalDate.of(year, month, day).with(adjuster);
+        return withinMonth && date.getMonthValue() != month ? null : date;
+    }
+
+}
@@ -0,0 +1,151 @@
+package org.nordicthings.commons.holiday;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * The days of week which are no working days, e.g. saturday and sunday or friday and saturday. A weekend is held as
+ * a bitmask with one bit per day of week, so that a check does not allocate. Instances are shared and may be compared
+ * by {@code equals}.
+ */
+public final class Weekend {
+
+    private static final Weekend[] WEEKENDS = new Weekend[1 << 7];
+
+    static {
+        for (int mask = 0; mask < WEEKENDS.length; mask++) {
+            WEEKENDS[mask] = new Weekend(mask);
+        }
+    }
+
+    /**
+     * Saturday and sunday, which is the weekend of a calendar unless it is configured otherwise.
+     */
+    public static final Weekend SATURDAY_SUNDAY = of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+
+    /**
+     * Friday and saturday, which is common in the Middle East.
+     */
+    public static final Weekend FRIDAY_SATURDAY = of(DayOfWeek.FRIDAY, DayOfWeek.SATURDAY);
+
+    /**
+     * Sunday only, e.g. for a six-day week.
+     */
+    public static final Weekend SUNDAY_ONLY = of(DayOfWeek.SUNDAY);
+
+    /**
+     * No weekend at all, e.g. for a seven-day operation.
+     */
+    public static final Weekend NONE = WEEKENDS[0];
+
+    private final int mask;
+
+    private Weekend(int mask) {
+        this.mask = mask;
+    }
+
+    /**
+     * @param days the days of the weekend
+     * @return the weekend with the given days
+     */
+    public static Weekend of(DayOfWeek... days) {
+        int mask = 0;
+        for (DayOfWeek day : days == null ? new DayOfWeek[0] : days) {
+            if (day == null) {
+                throw new IllegalArgumentException("A day of the weekend must not be null");
+            }
+            mask |= bit(day);
+        }
+        return WEEKENDS[mask];
+    }
+
+    /**
+     * @param mask one bit per day of week, monday is bit 0
+     * @return the weekend with the given days
+     */
+    static Weekend ofMask(int mask) {
+        if (mask < 0 || mask >= WEEKENDS.length) {
+            throw new IllegalArgumentException("Invalid mask " + mask + " of a weekend");
+        }
+        return WEEKENDS[mask];
+    }
+
+    /**
+     * @return one bit per day of week, monday is bit 0
+     */
+    int getMask() {
+        return mask;
+    }
+
+    /**
+     * @return the days of the weekend in the order of the week
+     */
+    public Set<DayOfWeek> getDays() {
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (contains(day)) {
+                days.add(day);
+            }
+        }
+        return days;
+    }
+
+    /**
+     * @param day a day of week
+     * @return true: the given day of week belongs to the weekend
+     */
+    public boolean contains(DayOfWeek day) {
+        return day != null && (mask & bit(day)) != 0;
+    }
+
+    /**
+     * @param date any date
+     * @return true: the given date falls on the weekend
+     */
+    public boolean isWeekend(LocalDate date) {
+        if (date == null) {
+            throw new IllegalArgumentException("Unable to determine weekend for a date of null");
+        }
+        return isWeekend(date.toEpochDay());
+    }
+
+    /**
+     * @param epochDay any day given as epoch day, see {@link LocalDate#toEpochDay()}.
+     * @return true: the given day falls on the weekend
+     */
+    public boolean isWeekend(long epochDay) {
+        return isWeekend(epochDay, mask);
+    }
+
+    /**
+     * @param epochDay any day given as epoch day
+     * @param mask the days of the weekend, monday is bit 0
+     * @return true: the given day falls on one of the days of the mask
+     */
+    static boolean isWeekend(long epochDay, int mask) {
+        // the epoch day 0 (1970-01-01) was a thursday, which is day 3 when counting from monday as 0
+        return (mask >>> Math.floorMod(epochDay + 3, 7) & 1) != 0;
+    }
+
+    private static int bit(DayOfWeek day) {
+        return 1 << (day.getValue() - 1);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof Weekend && mask == ((Weekend) o).mask;
+    }
+
+    @Override
+    public int hashCode() {
+        return mask;
+    }
+
+    @Override
+    public String toString() {
+        return "Weekend" + getDays();
+    }
+
+}
@@ -0,0 +1,104 @@
+package org.nordicthings.commons.holiday;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The weekend of a calendar together with the deviating weekends of single administrative areas. A day is a weekend
+ * for several areas if it is a weekend in at least one of them, since it is a working day in all of them otherwise.
+ */
+final class Weekends {
+
+    static final Weekends DEFAULT = new Weekends(Weekend.SATURDAY_SUNDAY, Collections.emptyMap());
+
+    private final Weekend standard;
+    private final Map<AdministrativeArea, Weekend> areas;
+
+    private Weekends(Weekend standard, Map<AdministrativeArea, Weekend> areas) {
+        this.standard = standard;
+        this.areas = areas;
+    }
+
+    /**
+     * @param weekend the weekend of all areas without a weekend of their own
+     * @return a copy with the given weekend
+     */
+    Weekends withStandard(Weekend weekend) {
+        return new Weekends(weekend, areas);
+    }
+
+    /**
+     * @param area an administrative area
+     * @param weekend the weekend of the given area
+     * @return a copy in which the given area has the given weekend
+     */
+    Weekends withArea(AdministrativeArea area, Weekend weekend) {
+        Map<AdministrativeArea, Weekend> copy = new HashMap<>(areas);
+        copy.put(area, weekend);
+        return new Weekends(standard, Collections.unmodifiableMap(copy));
+    }
+
+    /**
+     * @return the weekend of all areas without a weekend of their own
+     */
+    Weekend getStandard() {
+        return standard;
+    }
+
+    /**
+     * @return the administrative areas with a weekend of their own
+     */
+    Map<AdministrativeArea, Weekend> getAreas() {
+        return areas;
+    }
+
+    /**
+     * @param area an administrative area
+     * @return the weekend of the given area
+     */
+    Weekend get(AdministrativeArea area) {
+        return areas.getOrDefault(area, standard);
+    }
+
+    /**
+     * @param area an administrative area
+     * @return true: the area has a weekend of its own
+     */
+    boolean isDeviating(AdministrativeArea area) {
+        return areas.containsKey(area);
+    }
+
+    /**
+     * @param selected the administrative areas of interest, may be empty
+     * @return the days which are a weekend in at least one of the given areas or the standard weekend if no area is
+     * given
+     */
+    int mask(Iterable<? extends AdministrativeArea> selected) {
+        int mask = 0;
+        boolean any = false;
+        for (AdministrativeArea area : selected) {
+            mask |= get(area).getMask();
+            any = true;
+        }
+        return any ? mask : standard.getMask();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Weekends)) {
+            return false;
+        }
+        Weekends other = (Weekends) o;
+        return standard.equals(other.standard) && areas.equals(other.areas);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * standard.hashCode() + areas.hashCode();
+    }
+
+}
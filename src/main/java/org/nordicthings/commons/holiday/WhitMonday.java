@@ -1,16 +1,12 @@
 package org.nordicthings.commons.holiday;
 
-import java.time.LocalDate;
-
 /**
  * Whit monday is 50 days after Easter sunday.
  */
-public class WhitMonday extends AbstractHoliday {
-
-    private final Holiday easterSunday = EasterSunday.ofSpecificAreas();
+public class WhitMonday extends EasterRelativeHoliday {
 
     private WhitMonday(String key, String name, AdministrativeArea... administrativeAreas) {
-        super(key, name, administrativeAreas);
+        super(50, key, name, administrativeAreas);
     }
 
     /**
@@ -64,28 +60,4 @@ public class WhitMonday extends AbstractHoliday {
         return new WhitMonday(null, name, administrativeAreas);
     }
 
-    @Override
-    public LocalDate getDate(int year) {
-        try {
-            return easterSunday.getDate(year).plusDays(50);
-        } catch (HolidayException he) {
-            throw new HolidayException("The calculation of Whitmonday relies on EasterSunday and therefore can only be determined for the years between " + getMinimalYear() + " and " + getMaximalYear());
-        }
-    }
-
-    /**
-     * @return same maximum year as Easter sunday
-     */
-    @Override
-    public int getMaximalYear() {
-        return easterSunday.getMaximalYear();
-    }
-
-    /**
-     * @return same minimum year as Easter sunday
-     */
-    @Override
-    public int getMinimalYear() {
-        return easterSunday.getMinimalYear();
-    }
 }
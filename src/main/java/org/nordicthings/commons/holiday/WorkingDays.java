@@ -0,0 +1,141 @@
+package org.nordicthings.commons.holiday;
+
+/**
+ * Precomputed working days of a {@link HolidayIndex} for one combination of administrative areas. Days are addressed
+ * by their offset from the beginning of the indexed period.
+ * <p>
+ * The table holds the merged holidays of all areas as bitset, the cumulative number of working days before every day
+ * and the offsets of all working days in ascending order, so that classifying a day, counting and shifting by working
+ * days as well as finding the next or previous working day are constant time operations. The weekend of the areas is
+ * applied when the table is compiled.
+ */
+final class WorkingDays {
+
+    private final long startEpochDay;
+    private final int weekend;
+    private final long[] holidays;
+    private final int[] cumulative;
+    private final int[] workingDays;
+
+    private WorkingDays(long startEpochDay, int weekend, long[] holidays, int[] cumulative, int[] workingDays) {
+        this.startEpochDay = startEpochDay;
+        this.weekend = weekend;
+        this.holidays = holidays;
+        this.cumulative = cumulative;
+        this.workingDays = workingDays;
+    }
+
+    /**
+     * @param startEpochDay the epoch day of the first day of the period
+     * @param length the number of days in the period
+     * @param holidays a bitset with one bit per day of the period which is set for holidays
+     * @return the compiled table for the weekend of saturday and sunday
+     */
+    static WorkingDays compile(long startEpochDay, int length, long[] holidays) {
+        return compile(startEpochDay, length, holidays, Weekend.SATURDAY_SUNDAY.getMask());
+    }
+
+    /**
+     * @param startEpochDay the epoch day of the first day of the period
+     * @param length the number of days in the period
+     * @param holidays a bitset with one bit per day of the period which is set for holidays
+     * @param weekend the days of the weekend, monday is bit 0
+     * @return the compiled table
+     */
+    static WorkingDays compile(long startEpochDay, int length, long[] holidays, int weekend) {
+        int[] cumulative = new int[length + 1];
+        int[] workingDays = new int[length];
+        int count = 0;
+        for (int day = 0; day < length; day++) {
+            cumulative[day] = count;
+            boolean holiday = (holidays[day >>> 6] & (1L << day)) != 0;
+            if (!holiday && !Weekend.isWeekend(startEpochDay + day, weekend)) {
+                workingDays[count++] = day;
+            }
+        }
+        cumulative[length] = count;
+        int[] trimmed = new int[count];
+        System.arraycopy(workingDays, 0, trimmed, 0, count);
+        return new WorkingDays(startEpochDay, weekend, holidays, cumulative, trimmed);
+    }
+
+    /**
+     * @return the days of the weekend applied by the table, monday is bit 0
+     */
+    int weekend() {
+        return weekend;
+    }
+
+    /**
+     * @param epochDay any day given as epoch day
+     * @return true: the day is a holiday. Days outside of the period are never holidays.
+     */
+    boolean isHoliday(long epochDay) {
+        long day = epochDay - startEpochDay;
+        return day >= 0 && day < cumulative.length - 1 && (holidays[(int) (day >>> 6)] & (1L << day)) != 0;
+    }
+
+    /**
+     * @param epochDay any day given as epoch day
+     * @return true: the day is neither a weekend nor a holiday. Days outside of the period are working days unless
+     * they are weekends.
+     */
+    boolean isWorkingDay(long epochDay) {
+        long day = epochDay - startEpochDay;
+        if (day < 0 || day >= cumulative.length - 1) {
+            return !Weekend.isWeekend(epochDay, weekend);
+        }
+        return cumulative[(int) day + 1] != cumulative[(int) day];
+    }
+
+    /**
+     * @param from the first offset, inclusive
+     * @param to the last offset, inclusive
+     * @return the number of working days between both offsets
+     */
+    int count(int from, int to) {
+        return cumulative[to + 1] - cumulative[from];
+    }
+
+    /**
+     * @param day an offset within the period
+     * @param amount the number of working days to move, negative values move backwards
+     * @return the offset of the working day reached by moving the given amount of working days away from the given
+     * day, the given day itself for an amount of zero or -1 if the result lies outside of the period
+     */
+    int shift(int day, long amount) {
+        if (amount == 0) {
+            return day;
+        }
+        long position = amount > 0 ? cumulative[day + 1] + amount - 1 : cumulative[day] + amount;
+        return position >= 0 && position < workingDays.length ? workingDays[(int) position] : -1;
+    }
+
+    /**
+     * @param day an offset within the period
+     * @return the offset of the first working day on or after the given day or -1 if there is none within the
+     * period
+     */
+    int next(int day) {
+        int position = cumulative[day];
+        return position < workingDays.length ? workingDays[position] : -1;
+    }
+
+    /**
+     * @param day an offset within the period
+     * @return the offset of the last working day on or before the given day or -1 if there is none within the
+     * period
+     */
+    int previous(int day) {
+        return cumulative[day + 1] > 0 ? workingDays[cumulative[day + 1] - 1] : -1;
+    }
+
+    /**
+     * @param epochDay a day given as epoch day
+     * @return true: the day is a saturday or a sunday
+     */
+    static boolean isWeekend(long epochDay) {
+        return Weekend.SATURDAY_SUNDAY.isWeekend(epochDay);
+    }
+
+}
@@ -0,0 +1,85 @@
+package org.nordicthings.commons.holiday;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * Restricts the years in which another holiday takes place, e.g. for a holiday which was introduced by law in a
+ * certain year or which takes place only once.
+ */
+final class YearRestrictedHoliday implements Holiday {
+
+    private final Holiday holiday;
+    private final int minimalYear;
+    private final int maximalYear;
+
+    /**
+     * @param holiday the restricted holiday
+     * @param minimalYear the first year of the holiday, which is raised to the first year of the restricted holiday
+     * @param maximalYear the last year of the holiday, which is lowered to the last year of the restricted holiday
+     */
+    YearRestrictedHoliday(Holiday holiday, int minimalYear, int maximalYear) {
+        this.holiday = holiday;
+        this.minimalYear = Math.max(minimalYear, holiday.getMinimalYear());
+        this.maximalYear = Math.min(maximalYear, holiday.getMaximalYear());
+    }
+
+    @Override
+    public LocalDate getDate(int year) {
+        if (!isValidYear(year)) {
+            throw new HolidayException(getName() + " can only be determined for the years between " + minimalYear + " and " + maximalYear);
+        }
+        return holiday.getDate(year);
+    }
+
+    @Override
+    public String getKey() {
+        return holiday.getKey();
+    }
+
+    @Override
+    public String getName() {
+        return holiday.getName();
+    }
+
+    @Override
+    public boolean isNationWide() {
+        return holiday.isNationWide();
+    }
+
+    @Override
+    public boolean isHolidayIn(AdministrativeArea... areas) {
+        return holiday.isHolidayIn(areas);
+    }
+
+    @Override
+    public boolean isHolidayIn(AreaSelector selector) {
+        return holiday.isHolidayIn(selector);
+    }
+
+    @Override
+    public Set<AdministrativeArea> getAdministrativeAreas() {
+        return holiday.getAdministrativeAreas();
+    }
+
+    @Override
+    public boolean isValidYear(int year) {
+        return year >= minimalYear && year <= maximalYear && holiday.isValidYear(year);
+    }
+
+    @Override
+    public int getMinimalYear() {
+        return minimalYear;
+    }
+
+    @Override
+    public int getMaximalYear() {
+        return maximalYear;
+    }
+
+    @Override
+    public String toString() {
+        return holiday + " [" + minimalYear + ", " + maximalYear + "]";
+    }
+
+}
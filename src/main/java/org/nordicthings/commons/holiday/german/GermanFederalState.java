@@ -1,6 +1,7 @@
 package org.nordicthings.commons.holiday.german;
 
 import org.nordicthings.commons.holiday.AdministrativeArea;
+import org.nordicthings.commons.holiday.AreaRegistry;
 
 /*
 Kürzel der Bundesländer gemäß ISO 31622-2
@@ -25,6 +26,8 @@ public enum GermanFederalState implements AdministrativeArea {
     SCHLESWIG_HOLSTEIN("DE-SH", "Schleswig-Holstein"),
     THUERINGEN("DE-TH", "Thüringen");
 
+    private static final AreaRegistry REGISTRY = AreaRegistry.of(GermanFederalState.class);
+
     private final String iso;
     private final String name;
 
@@ -42,12 +45,14 @@ public enum GermanFederalState implements AdministrativeArea {
     }
 
     public static GermanFederalState getByISO(String iso) {
-        for (GermanFederalState state : values()) {
-            if (state.getISO().equals(iso)) {
-                return state;
-            }
-        }
-        return null;
+        return (GermanFederalState) REGISTRY.getByISO(iso);
+    }
+
+    /**
+     * @return the registry of all federal states, which looks them up by ISO code or by name
+     */
+    public static AreaRegistry registry() {
+        return REGISTRY;
     }
 
 }
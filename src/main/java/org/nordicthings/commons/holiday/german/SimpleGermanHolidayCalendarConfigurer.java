@@ -55,4 +55,18 @@ public class SimpleGermanHolidayCalendarConfigurer implements HolidayCalendarCon
         holidayCalendar.addHoliday(FixedHoliday.of(26, 12, "Zweiter Weihnachtstag"));
     }
 
+    /**
+     * The configurer is stateless, so all instances are equal. This allows instances to be used as key of a
+     * {@link HolidayCalendarCache}.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        return obj != null && obj.getClass() == getClass();
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
 }
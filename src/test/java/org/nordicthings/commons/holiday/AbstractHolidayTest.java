@@ -45,6 +45,17 @@ public class AbstractHolidayTest {
         assertThat(new DummyHoliday().isHolidayIn(anyArea)).isTrue();
     }
 
+    @Test
+    public void testIsHolidayInSelector() {
+        AdministrativeArea anyArea = new DummyArea();
+        AdministrativeArea anotherArea = new DummyArea();
+        assertThat(new DummyHoliday(anyArea).isHolidayIn(AreaSelector.of(anyArea))).isTrue();
+        assertThat(new DummyHoliday(anyArea).isHolidayIn(AreaSelector.of(anotherArea, anyArea))).isTrue();
+        assertThat(new DummyHoliday(anyArea).isHolidayIn(AreaSelector.of(anotherArea))).isFalse();
+        assertThat(new DummyHoliday(anyArea).isHolidayIn(AreaSelector.nationwide())).isFalse();
+        assertThat(new DummyHoliday().isHolidayIn(AreaSelector.of(anyArea))).isTrue();
+    }
+
     private static class DummyHoliday extends AbstractHoliday {
 
         private DummyHoliday() {
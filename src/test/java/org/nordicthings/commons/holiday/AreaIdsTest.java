@@ -0,0 +1,75 @@
+package org.nordicthings.commons.holiday;
+
+import org.junit.jupiter.api.Test;
+import org.nordicthings.commons.holiday.german.GermanFederalState;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AreaIdsTest {
+
+    @Test
+    public void testRegister() {
+        AreaIds.Id id = AreaIds.register(GermanFederalState.BAYERN);
+        assertThat(AreaIds.register(GermanFederalState.BAYERN)).isSameAs(id);
+        assertThat(AreaIds.register(GermanFederalState.BERLIN).getNumber()).isNotEqualTo(id.getNumber());
+        assertThat(AreaIds.register(new SimpleArea("equal"))).isSameAs(AreaIds.register(new SimpleArea("equal")));
+    }
+
+    @Test
+    public void testMask() {
+        AreaIds.Id[] ids = AreaIds.register(java.util.Arrays.asList(GermanFederalState.BAYERN, GermanFederalState.BERLIN));
+        long[] mask = AreaIds.toMask(ids);
+        assertThat(AreaIds.intersects(mask, AreaIds.toMask(AreaIds.register(GermanFederalState.BERLIN)))).isTrue();
+        assertThat(AreaIds.intersects(mask, AreaIds.toMask(AreaIds.register(GermanFederalState.SACHSEN)))).isFalse();
+        assertThat(AreaIds.intersects(mask, AreaIds.toMask())).isFalse();
+    }
+
+    @Test
+    public void testUnusedAreasAreReleased() throws InterruptedException {
+        List<AreaSelector> selectors = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            selectors.add(AreaSelector.of(new SimpleArea("dynamic" + i)));
+        }
+        int registered = AreaIds.size();
+        assertThat(registered).isGreaterThanOrEqualTo(1000);
+        selectors.clear();
+        for (int i = 0; i < 50 && AreaIds.size() > registered - 1000; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertThat(AreaIds.size()).isLessThanOrEqualTo(registered - 1000);
+    }
+
+    private static class SimpleArea implements AdministrativeArea {
+
+        private final String iso;
+
+        SimpleArea(String iso) {
+            this.iso = iso;
+        }
+
+        @Override
+        public String getISO() {
+            return iso;
+        }
+
+        @Override
+        public String getName() {
+            return iso;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof SimpleArea && iso.equals(((SimpleArea) o).iso);
+        }
+
+        @Override
+        public int hashCode() {
+            return iso.hashCode();
+        }
+    }
+
+}
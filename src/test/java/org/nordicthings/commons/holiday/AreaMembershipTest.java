@@ -0,0 +1,84 @@
+package org.nordicthings.commons.holiday;
+
+import org.junit.jupiter.api.Test;
+import org.nordicthings.commons.holiday.german.GermanFederalState;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class AreaMembershipTest {
+
+    private static final AdministrativeArea[] AREAS = {
+            new SimpleArea("a"), new SimpleArea("b"), new SimpleArea("c"), new SimpleArea("d"), new SimpleArea("e")
+    };
+
+    @Test
+    public void testEmpty() {
+        assertThat(AreaMembership.of()).isSameAs(AreaMembership.EMPTY);
+        assertThat(AreaMembership.of((AdministrativeArea[]) null)).isSameAs(AreaMembership.EMPTY);
+        assertThat(AreaMembership.EMPTY.isEmpty()).isTrue();
+        assertThat(AreaMembership.EMPTY.containsAny(GermanFederalState.BAYERN)).isFalse();
+        assertThat(AreaMembership.EMPTY.intersects(AreaSelector.of(GermanFederalState.BAYERN))).isFalse();
+    }
+
+    @Test
+    public void testSingle() {
+        AreaMembership sut = AreaMembership.of(AREAS[0], AREAS[0]);
+        assertThat(sut.asSet()).containsExactly(AREAS[0]);
+        assertThat(sut.containsAny(AREAS[1], null, AREAS[0])).isTrue();
+        assertThat(sut.containsAny(AREAS[1])).isFalse();
+        assertThat(sut.containsAny()).isFalse();
+        assertThat(sut.containsAny((AdministrativeArea[]) null)).isFalse();
+        assertThat(sut.intersects(AreaSelector.of(AREAS[0]))).isTrue();
+    }
+
+    @Test
+    public void testEnum() {
+        AreaMembership sut = AreaMembership.of(GermanFederalState.SACHSEN, GermanFederalState.BAYERN);
+        assertThat(sut.asSet()).containsExactly(GermanFederalState.SACHSEN, GermanFederalState.BAYERN);
+        assertThat(sut.containsAny(GermanFederalState.BERLIN, GermanFederalState.BAYERN)).isTrue();
+        assertThat(sut.containsAny(GermanFederalState.BERLIN, AREAS[0])).isFalse();
+        assertThat(sut.intersects(AreaSelector.of(GermanFederalState.SACHSEN))).isTrue();
+        assertThat(sut.intersects(AreaSelector.of(GermanFederalState.BERLIN))).isFalse();
+    }
+
+    @Test
+    public void testSmallAndMasked() {
+        AreaMembership small = AreaMembership.of(AREAS[0], AREAS[1], GermanFederalState.BAYERN);
+        assertThat(small.containsAny(GermanFederalState.BAYERN)).isTrue();
+        assertThat(small.containsAny(AREAS[4], AREAS[1])).isTrue();
+        assertThat(small.containsAny(AREAS[4], GermanFederalState.BERLIN)).isFalse();
+        AreaMembership masked = AreaMembership.of(AREAS);
+        assertThat(masked.asSet()).containsExactly(AREAS);
+        for (AdministrativeArea area : AREAS) {
+            assertThat(masked.containsAny(area)).isTrue();
+        }
+        assertThat(masked.containsAny(new SimpleArea("f"), GermanFederalState.BAYERN)).isFalse();
+        assertThat(masked.intersects(AreaSelector.of(AREAS[4]))).isTrue();
+    }
+
+    @Test
+    public void testNullArea() {
+        assertThrows(IllegalArgumentException.class, () -> AreaMembership.of(AREAS[0], null));
+    }
+
+    private static class SimpleArea implements AdministrativeArea {
+
+        private final String key;
+
+        SimpleArea(String key) {
+            this.key = key;
+        }
+
+        @Override
+        public String getISO() {
+            return key;
+        }
+
+        @Override
+        public String getName() {
+            return key;
+        }
+    }
+
+}
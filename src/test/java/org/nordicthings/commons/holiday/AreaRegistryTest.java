@@ -0,0 +1,79 @@
+package org.nordicthings.commons.holiday;
+
+import org.junit.jupiter.api.Test;
+import org.nordicthings.commons.holiday.german.GermanFederalState;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class AreaRegistryTest {
+
+    private static final AdministrativeArea PLANT = new SimpleArea("XX-PL", "Plant");
+
+    @Test
+    public void testLookup() {
+        AreaRegistry sut = AreaRegistry.of(PLANT, GermanFederalState.BAYERN, GermanFederalState.BAYERN);
+        assertThat(sut.getAreas()).containsExactly(PLANT, GermanFederalState.BAYERN);
+        assertThat(sut.getByISO("XX-PL")).isSameAs(PLANT);
+        assertThat(sut.getByISO("DE-BY")).isSameAs(GermanFederalState.BAYERN);
+        assertThat(sut.getByName("Bayern")).isSameAs(GermanFederalState.BAYERN);
+        assertThat(sut.getByISO("DE-BE")).isNull();
+        assertThat(sut.getByISO(null)).isNull();
+        assertThat(sut.getByName(null)).isNull();
+    }
+
+    @Test
+    public void testEnum() {
+        AreaRegistry sut = AreaRegistry.of(GermanFederalState.class);
+        assertThat(sut.getAreas()).containsExactly(GermanFederalState.values());
+        assertThat(sut.getByISO("MV")).isSameAs(GermanFederalState.MECKLENBURG_VORPOMMERN);
+    }
+
+    @Test
+    public void testSelector() {
+        AreaRegistry sut = AreaRegistry.of(GermanFederalState.class);
+        AreaSelector expected = AreaSelector.of(GermanFederalState.BAYERN, GermanFederalState.BERLIN);
+        assertThat(sut.selector("DE-BY", "DE-BE")).isEqualTo(expected);
+        assertThat(sut.selector(Arrays.asList("DE-BE", "DE-BY"))).isEqualTo(expected);
+        assertThat(sut.parseSelector("DE-BY, DE-BE")).isEqualTo(expected);
+        assertThat(sut.parseSelector("DE-BY")).isEqualTo(AreaSelector.of(GermanFederalState.BAYERN));
+        assertThat(sut.parseSelector("")).isEqualTo(AreaSelector.nationwide());
+        assertThat(sut.selector()).isEqualTo(AreaSelector.nationwide());
+        assertThrows(IllegalArgumentException.class, () -> sut.selector("DE-BY", "XX"));
+        assertThrows(IllegalArgumentException.class, () -> sut.parseSelector("DE-BY,"));
+        assertThrows(IllegalArgumentException.class, () -> sut.parseSelector("DE-BY,,DE-BE"));
+        assertThrows(IllegalArgumentException.class, () -> sut.parseSelector(null));
+    }
+
+    @Test
+    public void testInvalidAreas() {
+        assertThrows(IllegalArgumentException.class, () -> AreaRegistry.of(PLANT, null));
+        assertThrows(IllegalArgumentException.class, () -> AreaRegistry.of(PLANT, new SimpleArea("XX-PL", "Other")));
+        assertThrows(IllegalArgumentException.class, () -> AreaRegistry.of(PLANT, new SimpleArea("XX-OT", "Plant")));
+        assertThrows(IllegalArgumentException.class, () -> AreaRegistry.of((AdministrativeArea[]) null));
+    }
+
+    private static class SimpleArea implements AdministrativeArea {
+
+        private final String iso;
+        private final String name;
+
+        SimpleArea(String iso, String name) {
+            this.iso = iso;
+            this.name = name;
+        }
+
+        @Override
+        public String getISO() {
+            return iso;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+    }
+
+}
@@ -0,0 +1,66 @@
+package org.nordicthings.commons.holiday;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class AreaSelectorTest {
+
+    @Test
+    public void testNationwide() {
+        assertThat(AreaSelector.nationwide().isEmpty()).isTrue();
+        assertThat(AreaSelector.of()).isSameAs(AreaSelector.nationwide());
+        assertThat(AreaSelector.of((AdministrativeArea[]) null)).isSameAs(AreaSelector.nationwide());
+        assertThat(AreaSelector.of(Collections.emptyList())).isSameAs(AreaSelector.nationwide());
+    }
+
+    @Test
+    public void testContains() {
+        AdministrativeArea anyArea = new DummyArea("any");
+        AdministrativeArea anotherArea = new DummyArea("another");
+        AreaSelector sut = AreaSelector.of(anyArea);
+        assertThat(sut.contains(anyArea)).isTrue();
+        assertThat(sut.contains(anotherArea)).isFalse();
+        assertThat(sut.contains(null)).isFalse();
+        assertThat(sut.getAreas()).containsExactly(anyArea);
+    }
+
+    @Test
+    public void testEquality() {
+        AdministrativeArea anyArea = new DummyArea("any");
+        AdministrativeArea anotherArea = new DummyArea("another");
+        AreaSelector sut = AreaSelector.of(anyArea, anotherArea);
+        assertThat(sut).isEqualTo(AreaSelector.of(Arrays.asList(anotherArea, anyArea, anyArea)));
+        assertThat(sut).hasSameHashCodeAs(AreaSelector.of(anotherArea, anyArea));
+        assertThat(sut).isNotEqualTo(AreaSelector.of(anyArea));
+    }
+
+    @Test
+    public void testAreaOfNull() {
+        assertThrows(IllegalArgumentException.class, () -> AreaSelector.of(new DummyArea("any"), null));
+    }
+
+    private static class DummyArea implements AdministrativeArea {
+
+        private final String key;
+
+        private DummyArea(String prefix) {
+            this.key = prefix + "Key";
+        }
+
+        @Override
+        public String getISO() {
+            return key;
+        }
+
+        @Override
+        public String getName() {
+            return key;
+        }
+    }
+
+}
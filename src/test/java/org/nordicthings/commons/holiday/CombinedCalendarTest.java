@@ -0,0 +1,124 @@
+package org.nordicthings.commons.holiday;
+
+import org.junit.jupiter.api.Test;
+import org.nordicthings.commons.holiday.german.GermanFederalState;
+import org.nordicthings.commons.holiday.german.SimpleGermanHolidayCalendarConfigurer;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CombinedCalendarTest {
+
+    private static final HolidayCalendar GERMANY = HolidayCalendar.builder()
+            .forYear(2021)
+            .configurer(new SimpleGermanHolidayCalendarConfigurer())
+            .frozen()
+            .build();
+
+    private static final HolidayCalendar OTHER = HolidayCalendar.builder()
+            .forYears(2020, 2022)
+            .configurer(calendar -> {
+                calendar.setWeekend(Weekend.FRIDAY_SATURDAY);
+                calendar.addHoliday(FixedHoliday.of(14, 7, "national", "National Day"));
+                calendar.addHoliday(FixedHoliday.of(1, 1, "newyear", "New Year"));
+            })
+            .frozen()
+            .build();
+
+    @Test
+    public void testIntersection() {
+        CombinedCalendar sut = CombinedCalendar.intersection()
+                .calendar(GERMANY, GermanFederalState.BAYERN)
+                .calendar(GERMANY, GermanFederalState.BERLIN)
+                .calendar(OTHER)
+                .build();
+        assertThat(sut.getPeriodStart()).isEqualTo(LocalDate.of(2021, 1, 1));
+        assertThat(sut.getPeriodEnd()).isEqualTo(LocalDate.of(2021, 12, 31));
+        for (LocalDate date = sut.getPeriodStart(); !date.isAfter(sut.getPeriodEnd()); date = date.plusDays(1)) {
+            assertThat(sut.isWorkingDay(date))
+                    .as(date.toString())
+                    .isEqualTo(GERMANY.isWorkingDay(date, GermanFederalState.BAYERN, GermanFederalState.BERLIN) && OTHER.isWorkingDay(date));
+        }
+        // the weekends of both calendars apply outside of the common period
+        assertThat(sut.isWorkingDay(LocalDate.of(2022, 1, 7))).isFalse();
+        assertThat(sut.isWorkingDay(LocalDate.of(2022, 1, 9))).isFalse();
+        assertThat(sut.isWorkingDay(LocalDate.of(2022, 1, 10))).isTrue();
+    }
+
+    @Test
+    public void testUnion() {
+        CombinedCalendar sut = CombinedCalendar.union()
+                .calendar(GERMANY, AreaSelector.of(GermanFederalState.BAYERN))
+                .calendar(OTHER)
+                .build();
+        for (LocalDate date = sut.getPeriodStart(); !date.isAfter(sut.getPeriodEnd()); date = date.plusDays(1)) {
+            assertThat(sut.isWorkingDay(date.toEpochDay()))
+                    .as(date.toString())
+                    .isEqualTo(GERMANY.isWorkingDay(date, GermanFederalState.BAYERN) || OTHER.isWorkingDay(date));
+        }
+        // New Year is a holiday in both calendars, the Friday after is a working day in Germany only
+        assertThat(sut.isWorkingDay(LocalDate.of(2021, 1, 1))).isFalse();
+        assertThat(sut.isWorkingDay(LocalDate.of(2021, 1, 8))).isTrue();
+        // only the saturday is a weekend in both calendars
+        assertThat(sut.isWorkingDay(LocalDate.of(2022, 1, 8))).isFalse();
+        assertThat(sut.isWorkingDay(LocalDate.of(2022, 1, 9))).isTrue();
+    }
+
+    @Test
+    public void testDeviatingWeekendOfArea() {
+        HolidayCalendar calendar = HolidayCalendar.builder()
+                .forYear(2022)
+                .configurer(holidayCalendar -> holidayCalendar.setWeekend(GermanFederalState.BERLIN, Weekend.FRIDAY_SATURDAY))
+                .frozen()
+                .build();
+        CombinedCalendar sut = CombinedCalendar.intersection()
+                .calendar(calendar, GermanFederalState.BERLIN, GermanFederalState.BAYERN)
+                .calendar(OTHER)
+                .build();
+        LocalDate sunday = LocalDate.of(2022, 6, 5);
+        assertThat(sut.isWorkingDay(sunday)).isFalse();
+        assertThat(sut.countWorkingDays(sunday, sunday)).isZero();
+        assertThat(sut.getNextWorkingDay(sunday)).contains(sunday.plusDays(1));
+        // the same weekend applies after the end of the period
+        assertThat(sut.isWorkingDay(LocalDate.of(2023, 1, 6))).isFalse();
+        assertThat(sut.isWorkingDay(LocalDate.of(2023, 1, 8))).isFalse();
+        assertThat(sut.isWorkingDay(LocalDate.of(2023, 1, 9))).isTrue();
+    }
+
+    @Test
+    public void testWorkingDays() {
+        CombinedCalendar sut = CombinedCalendar.intersection()
+                .calendar(GERMANY, GermanFederalState.BAYERN)
+                .calendar(OTHER)
+                .build();
+        // 2021-07-14 is a wednesday and a holiday of the other calendar
+        LocalDate date = LocalDate.of(2021, 7, 14);
+        assertThat(sut.getNextWorkingDay(date)).contains(LocalDate.of(2021, 7, 15));
+        assertThat(sut.getPreviousWorkingDay(date)).contains(LocalDate.of(2021, 7, 13));
+        // the thursday is followed by a friday and a saturday of the other and a sunday of the German weekend
+        assertThat(sut.plusWorkingDays(date, 2)).contains(LocalDate.of(2021, 7, 19));
+        assertThat(sut.minusWorkingDays(date, 1)).contains(LocalDate.of(2021, 7, 13));
+        assertThat(sut.plusWorkingDays(date, 0)).contains(date);
+        assertThat(sut.countWorkingDays(LocalDate.of(2021, 7, 12), LocalDate.of(2021, 7, 18))).isEqualTo(3);
+        assertThat(sut.getNextWorkingDay(LocalDate.of(2021, 12, 31))).isEmpty();
+        assertThat(sut.plusWorkingDays(LocalDate.of(2022, 1, 3), 1)).isEmpty();
+        assertThrows(IllegalArgumentException.class, () -> sut.countWorkingDays(date, date.minusDays(1)));
+        assertThrows(IllegalArgumentException.class, () -> sut.countWorkingDays(date, LocalDate.of(2022, 1, 3)));
+        assertThrows(IllegalArgumentException.class, () -> sut.isWorkingDay(null));
+    }
+
+    @Test
+    public void testBuilder() {
+        assertThrows(IllegalStateException.class, () -> CombinedCalendar.union().build());
+        assertThrows(IllegalArgumentException.class, () -> CombinedCalendar.union().calendar(null));
+        assertThrows(IllegalArgumentException.class, () -> CombinedCalendar.union().calendar(GERMANY, (AreaSelector) null));
+        HolidayCalendar later = HolidayCalendar.builder().forYear(2023).build();
+        assertThrows(IllegalStateException.class, () -> CombinedCalendar.intersection()
+                .calendar(GERMANY)
+                .calendar(later)
+                .build());
+    }
+
+}
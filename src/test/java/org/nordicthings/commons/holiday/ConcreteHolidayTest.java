@@ -0,0 +1,37 @@
+package org.nordicthings.commons.holiday;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ConcreteHolidayTest {
+
+    private static final LocalDate ANY_DATE = LocalDate.of(2021, 12, 25);
+    private static final Holiday ANY_HOLIDAY = FixedHoliday.of(25, 12, "anyName");
+
+    @Test
+    public void testValues() {
+        ConcreteHoliday sut = ConcreteHoliday.of(ANY_DATE, ANY_HOLIDAY);
+        assertThat(sut.getDate()).isEqualTo(ANY_DATE);
+        assertThat(sut.getHoliday()).isSameAs(ANY_HOLIDAY);
+        assertThat(sut.toString()).isEqualTo("2021-12-25 anyName");
+    }
+
+    @Test
+    public void testEquality() {
+        ConcreteHoliday sut = ConcreteHoliday.of(ANY_DATE, ANY_HOLIDAY);
+        assertThat(sut).isEqualTo(ConcreteHoliday.of(ANY_DATE, ANY_HOLIDAY));
+        assertThat(sut).hasSameHashCodeAs(ConcreteHoliday.of(ANY_DATE, ANY_HOLIDAY));
+        assertThat(sut).isNotEqualTo(ConcreteHoliday.of(ANY_DATE.plusYears(1), ANY_HOLIDAY));
+    }
+
+    @Test
+    public void testMissingValues() {
+        assertThrows(IllegalArgumentException.class, () -> ConcreteHoliday.of(null, ANY_HOLIDAY));
+        assertThrows(IllegalArgumentException.class, () -> ConcreteHoliday.of(ANY_DATE, null));
+    }
+
+}
@@ -0,0 +1,52 @@
+package org.nordicthings.commons.holiday;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class EasterRelativeHolidayTest {
+
+    @Test
+    public void testGetDate() {
+        assertThat(EasterRelativeHoliday.ofOffset(-46, "Aschermittwoch").getDate(2021)).isEqualTo(LocalDate.of(2021, 2, 17));
+        assertThat(EasterRelativeHoliday.ofOffset(0, "Ostersonntag").getDate(2021)).isEqualTo(EasterSunday.standard().getDate(2021));
+        assertThat(EasterRelativeHoliday.ofOffset(60, "Fronleichnam").getDate(2021)).isEqualTo(LocalDate.of(2021, 6, 3));
+        assertThat(EasterRelativeHoliday.ofOffset(60, "Fronleichnam").getOffset()).isEqualTo(60);
+    }
+
+    @Test
+    public void testWesternFeasts() {
+        assertThat(GoodFriday.standard().getOffset()).isEqualTo(-2);
+        assertThat(CorpusChristi.standard().getOffset()).isEqualTo(60);
+        assertThat(WhitMonday.standard()).isInstanceOf(EasterRelativeHoliday.class);
+    }
+
+    @Test
+    public void testBatchResolution() {
+        List<EasterRelativeHoliday> holidays = Arrays.asList(EasterRelativeHoliday.ofOffset(-46, "Aschermittwoch"),
+                EasterRelativeHoliday.ofOffset(-3, "Gründonnerstag"), AscensionOfChrist.standard());
+        assertThat(EasterRelativeHoliday.getDates(2021, holidays))
+                .containsExactly(LocalDate.of(2021, 2, 17), LocalDate.of(2021, 4, 1), LocalDate.of(2021, 5, 13));
+        assertThatThrownBy(() -> EasterRelativeHoliday.getDates(1500, holidays)).isInstanceOf(HolidayException.class);
+    }
+
+    @Test
+    public void testInvalidOffsetAndYear() {
+        assertThatThrownBy(() -> EasterRelativeHoliday.ofOffset(EasterRelativeHoliday.MINIMAL_OFFSET - 1, "any"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> EasterRelativeHoliday.ofOffset(EasterRelativeHoliday.MAXIMAL_OFFSET + 1, "any"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> EasterRelativeHoliday.ofOffset(1, "any").getDate(1500))
+                .isInstanceOf(HolidayException.class)
+                .hasMessage("The calculation of any relies on Easter sunday and therefore can only be determined for the years between 1583 and 8202");
+        assertThatThrownBy(() -> EasterSunday.standard().getDate(1500))
+                .isInstanceOf(HolidayException.class)
+                .hasMessage("EasterSunday can only be determined for the years between 1583 and 8202");
+    }
+
+}
@@ -0,0 +1,74 @@
+package org.nordicthings.commons.holiday;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EasterTableTest {
+
+    @Test
+    public void testKnownDates() {
+        assertThat(EasterTable.getDate(1583, 0)).isEqualTo(LocalDate.of(1583, 4, 10));
+        assertThat(EasterTable.getDate(2021, 0)).isEqualTo(LocalDate.of(2021, 4, 4));
+        assertThat(EasterTable.getDate(2024, 0)).isEqualTo(LocalDate.of(2024, 3, 31));
+        assertThat(EasterTable.getDate(2285, 0)).isEqualTo(LocalDate.of(2285, 3, 22));
+        assertThat(EasterTable.getDate(2038, 0)).isEqualTo(LocalDate.of(2038, 4, 25));
+    }
+
+    @Test
+    public void testOffsets() {
+        assertThat(EasterTable.getDate(2021, -2)).isEqualTo(LocalDate.of(2021, 4, 2));
+        assertThat(EasterTable.getDate(2024, 1)).isEqualTo(LocalDate.of(2024, 4, 1));
+        assertThat(EasterTable.getDate(2021, 60)).isEqualTo(LocalDate.of(2021, 6, 3));
+        assertThat(EasterTable.getDayOfYear(2024, 0)).isEqualTo(LocalDate.of(2024, 3, 31).getDayOfYear());
+    }
+
+    @Test
+    public void testAllYearsMatchAnonymousGregorianAlgorithm() {
+        for (int year = EasterTable.MINIMAL_YEAR; year <= EasterTable.MAXIMAL_YEAR; year++) {
+            LocalDate easter = EasterTable.getDate(year, 0);
+            assertThat(easter).isEqualTo(anonymousGregorianEaster(year));
+            assertThat(easter.getDayOfWeek()).isEqualTo(DayOfWeek.SUNDAY);
+        }
+    }
+
+    @Test
+    public void testEpochDays() {
+        for (int year = EasterTable.MINIMAL_YEAR; year <= EasterTable.MAXIMAL_YEAR; year++) {
+            assertThat(EasterTable.getEpochDay(year, -2)).isEqualTo(EasterTable.getDate(year, -2).toEpochDay());
+        }
+    }
+
+    @Test
+    public void testValidYears() {
+        assertThat(EasterTable.isValidYear(EasterTable.MINIMAL_YEAR - 1)).isFalse();
+        assertThat(EasterTable.isValidYear(EasterTable.MINIMAL_YEAR)).isTrue();
+        assertThat(EasterTable.isValidYear(EasterTable.MAXIMAL_YEAR)).isTrue();
+        assertThat(EasterTable.isValidYear(EasterTable.MAXIMAL_YEAR + 1)).isFalse();
+    }
+
+    /**
+     * Meeus/Jones/Butcher algorithm as independent reference
+     */
+    private static LocalDate anonymousGregorianEaster(int year) {
+        int a = year % 19;
+        int b = year / 100;
+        int c = year % 100;
+        int d = b / 4;
+        int e = b % 4;
+        int f = (b + 8) / 25;
+        int g = (b - f + 1) / 3;
+        int h = (19 * a + b - d - g + 15) % 30;
+        int i = c / 4;
+        int k = c % 4;
+        int l = (32 + 2 * e + 2 * i - h - k) % 7;
+        int m = (a + 11 * h + 22 * l) / 451;
+        int month = (h + l - 7 * m + 114) / 31;
+        int day = (h + l - 7 * m + 114) % 31 + 1;
+        return LocalDate.of(year, month, day);
+    }
+
+}
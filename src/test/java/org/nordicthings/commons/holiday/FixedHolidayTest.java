@@ -7,6 +7,7 @@ import org.nordicthings.commons.holiday.FixedHoliday;
 import java.time.LocalDate;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class FixedHolidayTest {
 
@@ -69,4 +70,14 @@ public class FixedHolidayTest {
         assertThat(fixedHoliday.getAdministrativeAreas()).containsExactly(ANY_AREA);
     }
 
+    @Test
+    public void testLeapDayOnlyInLeapYears() {
+        FixedHoliday fixedHoliday = FixedHoliday.of(29, 2, ANY_NAME);
+        assertThat(fixedHoliday.isValidYear(2020)).isTrue();
+        assertThat(fixedHoliday.getDate(2020)).isEqualTo(LocalDate.of(2020, 2, 29));
+        assertThat(fixedHoliday.isValidYear(2021)).isFalse();
+        assertThatThrownBy(() -> fixedHoliday.getDate(2021)).isInstanceOf(HolidayException.class);
+        assertThat(FixedHoliday.of(28, 2, ANY_NAME).isValidYear(2021)).isTrue();
+    }
+
 }
@@ -0,0 +1,87 @@
+package org.nordicthings.commons.holiday;
+
+import org.junit.jupiter.api.Test;
+import org.nordicthings.commons.holiday.german.GermanFederalState;
+import org.nordicthings.commons.holiday.german.SimpleGermanHolidayCalendarConfigurer;
+
+import java.time.LocalDate;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class HolidayCalendarBatchTest {
+
+    @Test
+    public void testCalendarsOfYears() {
+        HolidayCalendarBatch sut = HolidayCalendarBatch.builder()
+                .forYears(2015, 2024)
+                .configurer(new SimpleGermanHolidayCalendarConfigurer())
+                .areas(GermanFederalState.values())
+                .build();
+        assertThat(sut.getFirstYear()).isEqualTo(2015);
+        assertThat(sut.getLastYear()).isEqualTo(2024);
+        assertThat(sut.getAreas()).containsExactly(GermanFederalState.values());
+        for (int year = 2015; year <= 2024; year++) {
+            HolidayCalendar expected = HolidayCalendar.builder()
+                    .forYear(year)
+                    .configurer(new SimpleGermanHolidayCalendarConfigurer())
+                    .build();
+            HolidayCalendar calendar = sut.getCalendar(year);
+            assertThat(calendar.isFrozen()).isTrue();
+            assertThat(calendar.getPeriodStart()).isEqualTo(LocalDate.of(year, 1, 1));
+            assertThat(calendar.getPeriodEnd()).isEqualTo(LocalDate.of(year, 12, 31));
+            assertThat(calendar.getHolidays().keySet()).containsExactlyElementsOf(expected.getHolidays().keySet());
+            for (GermanFederalState state : GermanFederalState.values()) {
+                for (LocalDate date = expected.getPeriodStart(); date.getYear() == year; date = date.plusDays(1)) {
+                    assertThat(calendar.isWorkingDay(date, sut.getSelector(state)))
+                            .as(date + " in " + state)
+                            .isEqualTo(expected.isWorkingDay(date, state));
+                }
+            }
+        }
+        assertThat(sut.getCalendar().getPeriodStart()).isEqualTo(LocalDate.of(2015, 1, 1));
+        assertThat(sut.getCalendar().getPeriodEnd()).isEqualTo(LocalDate.of(2024, 12, 31));
+        assertThat(sut.getCalendar().isHoliday(LocalDate.of(2021, 6, 3), sut.getSelector(GermanFederalState.BAYERN))).isTrue();
+    }
+
+    @Test
+    public void testCustomPool() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            HolidayCalendarBatch sut = HolidayCalendarBatch.builder()
+                    .forYears(2021, 2021)
+                    .configurer(new SimpleGermanHolidayCalendarConfigurer())
+                    .pool(pool)
+                    .build();
+            assertThat(sut.getAreas()).isEmpty();
+            assertThat(sut.getCalendar(2021).isHoliday(LocalDate.of(2021, 12, 25))).isTrue();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        HolidayCalendarBatch sut = HolidayCalendarBatch.builder()
+                .forYears(2021, 2022)
+                .configurer(new SimpleGermanHolidayCalendarConfigurer())
+                .areas(GermanFederalState.BAYERN)
+                .build();
+        assertThrows(IllegalArgumentException.class, () -> sut.getCalendar(2020));
+        assertThrows(IllegalArgumentException.class, () -> sut.getCalendar(2023));
+        assertThrows(IllegalArgumentException.class, () -> sut.getSelector(GermanFederalState.BERLIN));
+        assertThrows(IllegalArgumentException.class, () -> HolidayCalendarBatch.builder().areas(GermanFederalState.BAYERN, null));
+        assertThrows(IllegalStateException.class, () -> HolidayCalendarBatch.builder()
+                .configurer(new SimpleGermanHolidayCalendarConfigurer())
+                .build());
+        assertThrows(IllegalStateException.class, () -> HolidayCalendarBatch.builder()
+                .forYears(2022, 2021)
+                .configurer(new SimpleGermanHolidayCalendarConfigurer())
+                .build());
+        assertThrows(IllegalStateException.class, () -> HolidayCalendarBatch.builder()
+                .forYears(2021, 2022)
+                .build());
+    }
+
+}
@@ -0,0 +1,119 @@
+package org.nordicthings.commons.holiday;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class HolidayCalendarCacheTest {
+
+    private static final HolidayCalendarConfigurer ANY_CONFIGURER =
+            holidayCalendar -> holidayCalendar.addHoliday(FixedHoliday.of(25, 12, "anyName"));
+    private static final HolidayCalendarConfigurer ANOTHER_CONFIGURER = holidayCalendar -> {
+    };
+
+    @Test
+    public void testHit() {
+        HolidayCalendarCache sut = HolidayCalendarCache.builder().build();
+        HolidayCalendar calendar = sut.get(ANY_CONFIGURER, 2021);
+        assertThat(calendar.isFrozen()).isTrue();
+        assertThat(calendar.isHoliday(LocalDate.of(2021, 12, 25))).isTrue();
+        assertThat(sut.get(ANY_CONFIGURER, 2021)).isSameAs(calendar);
+        assertThat(sut.getStatistics().getHitCount()).isEqualTo(1);
+        assertThat(sut.getStatistics().getMissCount()).isEqualTo(1);
+        assertThat(sut.getStatistics().getHitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    public void testKeyedByConfigurerAndPeriod() {
+        HolidayCalendarCache sut = HolidayCalendarCache.builder().build();
+        HolidayCalendar calendar = sut.get(ANY_CONFIGURER, 2021);
+        assertThat(sut.get(ANY_CONFIGURER, 2022)).isNotSameAs(calendar);
+        assertThat(sut.get(ANOTHER_CONFIGURER, 2021)).isNotSameAs(calendar);
+        assertThat(sut.get(ANY_CONFIGURER, LocalDate.of(2021, 1, 1), LocalDate.of(2021, 12, 30))).isNotSameAs(calendar);
+        assertThat(sut.get(ANY_CONFIGURER, LocalDate.of(2021, 1, 1), LocalDate.of(2021, 12, 31))).isSameAs(calendar);
+        assertThat(sut.size()).isEqualTo(4);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEviction() {
+        HolidayCalendarCache sut = HolidayCalendarCache.builder().maximumSize(2).build();
+        HolidayCalendar calendar2021 = sut.get(ANY_CONFIGURER, 2021);
+        HolidayCalendar calendar2022 = sut.get(ANY_CONFIGURER, 2022);
+        sut.get(ANY_CONFIGURER, 2021);
+        sut.get(ANY_CONFIGURER, 2023);
+        assertThat(sut.size()).isEqualTo(2);
+        assertThat(sut.getStatistics().getEvictionCount()).isEqualTo(1);
+        assertThat(sut.get(ANY_CONFIGURER, 2021)).isSameAs(calendar2021);
+        assertThat(sut.get(ANY_CONFIGURER, 2022)).isNotSameAs(calendar2022);
+    }
+
+    @Test
+    public void testExpiration() {
+        MutableClock clock = new MutableClock();
+        HolidayCalendarCache sut = HolidayCalendarCache.builder()
+                .expireAfterWrite(Duration.ofMinutes(10))
+                .clock(clock)
+                .build();
+        HolidayCalendar calendar = sut.get(ANY_CONFIGURER, 2021);
+        clock.advance(Duration.ofMinutes(9));
+        assertThat(sut.get(ANY_CONFIGURER, 2021)).isSameAs(calendar);
+        clock.advance(Duration.ofMinutes(1));
+        assertThat(sut.get(ANY_CONFIGURER, 2021)).isNotSameAs(calendar);
+        assertThat(sut.getStatistics().getEvictionCount()).isEqualTo(1);
+        assertThat(sut.getStatistics().getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testInvalidateAll() {
+        HolidayCalendarCache sut = HolidayCalendarCache.builder().build();
+        HolidayCalendar calendar = sut.get(ANY_CONFIGURER, 2021);
+        sut.invalidateAll();
+        assertThat(sut.size()).isZero();
+        assertThat(sut.get(ANY_CONFIGURER, 2021)).isNotSameAs(calendar);
+    }
+
+    @Test
+    public void testSharedInstance() {
+        assertThat(HolidayCalendarCache.shared()).isSameAs(HolidayCalendarCache.shared());
+    }
+
+    @Test
+    public void testInvalidConfiguration() {
+        assertThrows(IllegalStateException.class, () -> HolidayCalendarCache.builder().maximumSize(0).build());
+        assertThrows(IllegalStateException.class, () -> HolidayCalendarCache.builder().expireAfterWrite(Duration.ZERO).build());
+        assertThrows(IllegalArgumentException.class, () -> HolidayCalendarCache.builder().build().get(null, 2021));
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant = Instant.parse("2021-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+}
@@ -0,0 +1,132 @@
+package org.nordicthings.commons.holiday;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.nordicthings.commons.holiday.german.GermanFederalState;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class HolidayCalendarProviderTest {
+
+    private static final LocalDate ONE_OFF = LocalDate.of(2021, 5, 8);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testInitialCalendars() throws IOException {
+        Path germany = write("de.properties", "newYear.date = 01-01");
+        Path saxony = write("sn.properties", "prayer.weekday = WEDNESDAY before 11-23", "prayer.areas = DE-SN");
+        try (HolidayCalendarProvider sut = HolidayCalendarProvider.builder()
+                .forYears(2021, 2021)
+                .region("DE", germany)
+                .region("DE-SN", saxony)
+                .areas(GermanFederalState.values())
+                .build()) {
+            assertThat(sut.getRegions()).containsExactly("DE", "DE-SN");
+            assertThat(sut.getGeneration()).isEqualTo(1);
+            assertThat(sut.getCalendar("DE").isFrozen()).isTrue();
+            assertThat(sut.isHoliday("DE", LocalDate.of(2021, 1, 1))).isTrue();
+            assertThat(sut.isHoliday("DE-SN", LocalDate.of(2021, 11, 17), GermanFederalState.SACHSEN)).isTrue();
+            assertThat(sut.isWorkingDay("DE-SN", LocalDate.of(2021, 1, 1))).isTrue();
+            assertThatThrownBy(() -> sut.getCalendar("DE-BY")).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    public void testSwapOnChangedFile() throws Exception {
+        Path germany = write("de.properties", "newYear.date = 01-01");
+        try (HolidayCalendarProvider sut = HolidayCalendarProvider.builder()
+                .forYears(2021, 2021)
+                .region("DE", germany)
+                .build()) {
+            HolidayCalendar before = sut.getCalendar("DE");
+            assertThat(before.isHoliday(ONE_OFF)).isFalse();
+
+            replace(germany, "newYear.date = 01-01", "liberation.date = 2021-05-08");
+            awaitGeneration(sut, 2);
+
+            assertThat(sut.isHoliday("DE", ONE_OFF)).isTrue();
+            assertThat(before.isHoliday(ONE_OFF)).isFalse();
+        }
+    }
+
+    @Test
+    public void testFailedReloadKeepsCalendar() throws Exception {
+        Path germany = write("de.properties", "newYear.date = 01-01");
+        List<Exception> failures = new CopyOnWriteArrayList<>();
+        try (HolidayCalendarProvider sut = HolidayCalendarProvider.builder()
+                .forYears(2021, 2021)
+                .region("DE", germany)
+                .reloadFailureHandler(failures::add)
+                .build()) {
+            HolidayCalendar before = sut.getCalendar("DE");
+            replace(germany, "newYear.date = 13-01");
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (failures.isEmpty() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+            assertThat(failures).isNotEmpty();
+            assertThat(failures.get(0)).isInstanceOf(HolidayException.class);
+            assertThat(sut.getCalendar("DE")).isSameAs(before);
+            assertThat(sut.getGeneration()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    public void testManualReload() throws IOException {
+        Path germany = write("de.properties", "newYear.date = 01-01");
+        try (HolidayCalendarProvider sut = HolidayCalendarProvider.builder()
+                .forYears(2021, 2021)
+                .region("DE", germany)
+                .build()) {
+            HolidayCalendar before = sut.getCalendar("DE");
+            sut.reload();
+            assertThat(sut.getCalendar("DE")).isSameAs(before);
+            assertThat(sut.getGeneration()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    public void testBuilderValidation() throws IOException {
+        Path germany = write("de.properties", "newYear.date = 01-01");
+        assertThatThrownBy(() -> HolidayCalendarProvider.builder().region("DE", germany).build())
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> HolidayCalendarProvider.builder().forYears(2021, 2021).build())
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> HolidayCalendarProvider.builder().region("DE", germany).region("DE", germany))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> HolidayCalendarProvider.builder().forYears(2021, 2021)
+                .region("DE", directory.resolve("missing.properties")).build())
+                .isInstanceOf(IOException.class);
+    }
+
+    private Path write(String name, String... lines) throws IOException {
+        return Files.write(directory.resolve(name), Arrays.asList(lines), StandardCharsets.UTF_8);
+    }
+
+    private void replace(Path file, String... lines) throws IOException {
+        Path temporary = Files.write(directory.resolve(file.getFileName() + ".tmp"), Arrays.asList(lines), StandardCharsets.UTF_8);
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void awaitGeneration(HolidayCalendarProvider provider, long generation) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (provider.getGeneration() < generation && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(provider.getGeneration()).isEqualTo(generation);
+    }
+
+}
@@ -0,0 +1,148 @@
+package org.nordicthings.commons.holiday;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.nordicthings.commons.holiday.german.GermanFederalState;
+import org.nordicthings.commons.holiday.german.SimpleGermanHolidayCalendarConfigurer;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class HolidayCalendarReaderTest {
+
+    private static final HolidayCalendarReader READER = HolidayCalendarReader.of(GermanFederalState.values());
+
+    @Test
+    public void testRoundTrip() {
+        HolidayCalendar calendar = germanCalendar();
+        HolidayCalendar sut = READER.read(ByteBuffer.wrap(HolidayCalendarWriter.toBytes(calendar)));
+        assertThat(sut.isFrozen()).isTrue();
+        assertThat(sut.getPeriodStart()).isEqualTo(calendar.getPeriodStart());
+        assertThat(sut.getPeriodEnd()).isEqualTo(calendar.getPeriodEnd());
+        for (LocalDate date = calendar.getPeriodStart(); !date.isAfter(calendar.getPeriodEnd()); date = date.plusDays(1)) {
+            assertThat(sut.isHoliday(date)).isEqualTo(calendar.isHoliday(date));
+            for (GermanFederalState state : GermanFederalState.values()) {
+                assertThat(sut.isHoliday(date, state)).isEqualTo(calendar.isHoliday(date, state));
+            }
+        }
+        assertThat(sut.getHolidaysOn(LocalDate.of(2021, 6, 3))).hasSize(1).allSatisfy(holiday -> {
+            assertThat(holiday.getKey()).isEqualTo(CorpusChristi.class.getCanonicalName());
+            assertThat(holiday.getName()).isEqualTo("Fronleichnam");
+            assertThat(holiday.getAdministrativeAreas()).contains(GermanFederalState.BAYERN);
+        });
+    }
+
+    @Test
+    public void testRestoredHolidaysKeepTheirDates() {
+        HolidayCalendar sut = READER.read(ByteBuffer.wrap(HolidayCalendarWriter.toBytes(germanCalendar())));
+        Holiday christmas = sut.getHolidaysOn(LocalDate.of(2022, 12, 25)).get(0);
+        assertThat(sut.getConcreteDates(christmas)).hasSize(2).contains(LocalDate.of(2021, 12, 25));
+        assertThat(christmas.isValidYear(2023)).isFalse();
+        HolidayCalendar derived = sut.withHoliday(FixedHoliday.of(8, 5, "anyName"));
+        assertThat(derived.isHoliday(LocalDate.of(2021, 12, 25))).isTrue();
+        assertThat(derived.isHoliday(LocalDate.of(2021, 5, 8))).isTrue();
+    }
+
+    @Test
+    public void testReadFromFileAndStream(@TempDir Path directory) throws IOException {
+        HolidayCalendar calendar = germanCalendar();
+        Path file = directory.resolve("calendar.bin");
+        HolidayCalendarWriter.write(calendar, file);
+        assertThat(READER.read(file).getHolidays()).hasSameSizeAs(calendar.getHolidays());
+        byte[] bytes = HolidayCalendarWriter.toBytes(calendar);
+        assertThat(READER.read(new ByteArrayInputStream(bytes)).getHolidays()).hasSameSizeAs(calendar.getHolidays());
+    }
+
+    @Test
+    public void testBufferPositionIsKept() {
+        ByteBuffer buffer = ByteBuffer.wrap(HolidayCalendarWriter.toBytes(germanCalendar()));
+        READER.read(buffer);
+        assertThat(buffer.position()).isZero();
+    }
+
+    @Test
+    public void testUnknownArea() {
+        byte[] bytes = HolidayCalendarWriter.toBytes(germanCalendar());
+        assertThrows(HolidayException.class, () -> HolidayCalendarReader.of().read(ByteBuffer.wrap(bytes)));
+    }
+
+    @Test
+    public void testCorruptBuffer() {
+        byte[] bytes = HolidayCalendarWriter.toBytes(germanCalendar());
+        assertThrows(HolidayException.class, () -> READER.read(ByteBuffer.wrap(Arrays.copyOf(bytes, bytes.length / 2))));
+        HolidayException e = assertThrows(HolidayException.class, () -> READER.read(ByteBuffer.wrap(Arrays.copyOf(bytes, 20))));
+        assertThat(e).hasCauseInstanceOf(BufferUnderflowException.class);
+        bytes[0] = 0;
+        assertThrows(HolidayException.class, () -> READER.read(ByteBuffer.wrap(bytes)));
+    }
+
+    @Test
+    public void testCorruptOccurrences() {
+        HolidayCalendar calendar = germanCalendar();
+        byte[] bytes = HolidayCalendarWriter.toBytes(calendar);
+        // the occurrences as pairs of offset and holiday number are followed by the weekend and no areas
+        int last = bytes.length - 5 - 8;
+        int first = bytes.length - 5 - 8 * calendar.index().size();
+        assertThat(READER.read(ByteBuffer.wrap(withInt(bytes, last, 729))).getHolidays()).hasSameSizeAs(calendar.getHolidays());
+        assertThat(assertThrows(HolidayException.class, () -> READER.read(ByteBuffer.wrap(withInt(bytes, last, 730)))))
+                .hasMessageContaining("outside of the period");
+        assertThat(assertThrows(HolidayException.class, () -> READER.read(ByteBuffer.wrap(withInt(bytes, last, -1)))))
+                .hasMessageContaining("outside of the period");
+        assertThat(assertThrows(HolidayException.class, () -> READER.read(ByteBuffer.wrap(withInt(bytes, first, 700)))))
+                .hasMessageContaining("not ordered");
+        assertThat(assertThrows(HolidayException.class, () -> READER.read(ByteBuffer.wrap(withInt(bytes, last + 4, 999)))))
+                .hasMessageContaining("unknown holiday 999");
+        assertThat(assertThrows(HolidayException.class, () -> READER.read(ByteBuffer.wrap(withInt(withInt(bytes, first + 8, 0), first + 12, 0)))))
+                .hasMessageContaining("twice");
+    }
+
+    @Test
+    public void testWeekends() {
+        HolidayCalendar calendar = HolidayCalendar.builder()
+                .forYear(2021)
+                .configurer(c -> {
+                    new SimpleGermanHolidayCalendarConfigurer().configure(c);
+                    c.setWeekend(Weekend.FRIDAY_SATURDAY);
+                    c.setWeekend(GermanFederalState.BAYERN, Weekend.SUNDAY_ONLY);
+                })
+                .build();
+        HolidayCalendar sut = READER.read(ByteBuffer.wrap(HolidayCalendarWriter.toBytes(calendar)));
+        assertThat(sut.getWeekend()).isEqualTo(Weekend.FRIDAY_SATURDAY);
+        assertThat(sut.getWeekend(GermanFederalState.BAYERN)).isEqualTo(Weekend.SUNDAY_ONLY);
+        assertThat(sut.isWorkingDay(LocalDate.of(2021, 9, 18), GermanFederalState.BAYERN)).isTrue();
+        assertThat(HolidayCalendarWriter.toBytes(sut)).isEqualTo(HolidayCalendarWriter.toBytes(calendar));
+    }
+
+    @Test
+    public void testVersionWithoutWeekends() {
+        byte[] bytes = HolidayCalendarWriter.toBytes(germanCalendar());
+        // version 1 ends after the occurrences, which are followed by the weekend and no areas in version 2
+        byte[] version1 = Arrays.copyOf(bytes, bytes.length - 5);
+        version1[5] = 1;
+        HolidayCalendar sut = READER.read(ByteBuffer.wrap(version1));
+        assertThat(sut.getWeekend()).isEqualTo(Weekend.SATURDAY_SUNDAY);
+        assertThat(sut.getHolidays().keySet()).isEqualTo(germanCalendar().getHolidays().keySet());
+    }
+
+    private static byte[] withInt(byte[] bytes, int position, int value) {
+        byte[] copy = bytes.clone();
+        ByteBuffer.wrap(copy).putInt(position, value);
+        return copy;
+    }
+
+    private static HolidayCalendar germanCalendar() {
+        return HolidayCalendar.builder()
+                .forYears(2021, 2022)
+                .configurer(new SimpleGermanHolidayCalendarConfigurer())
+                .build();
+    }
+
+}
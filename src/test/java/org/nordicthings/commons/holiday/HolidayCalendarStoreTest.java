@@ -0,0 +1,114 @@
+package org.nordicthings.commons.holiday;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.nordicthings.commons.holiday.german.GermanFederalState;
+import org.nordicthings.commons.holiday.german.SimpleGermanHolidayCalendarConfigurer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class HolidayCalendarStoreTest {
+
+    private static final HolidayCalendarConfigurer GERMAN_CONFIGURER = new SimpleGermanHolidayCalendarConfigurer();
+
+    @Test
+    public void testMappedFile(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("holidays.store");
+        HolidayCalendarStore.Writer writer = HolidayCalendarStore.writer(2021, 2022)
+                .region("DE", GERMAN_CONFIGURER);
+        for (GermanFederalState state : GermanFederalState.values()) {
+            writer.region(state.getISO(), GERMAN_CONFIGURER, state);
+        }
+        writer.write(file);
+
+        HolidayCalendarStore sut = HolidayCalendarStore.open(file);
+        assertThat(sut.getRegions()).hasSize(GermanFederalState.values().length + 1).startsWith("DE");
+        HolidayCalendar calendar = HolidayCalendar.builder()
+                .forYears(2021, 2022)
+                .configurer(GERMAN_CONFIGURER)
+                .build();
+        HolidayCalendarStore.Region germany = sut.getRegion("DE");
+        for (LocalDate date = LocalDate.of(2021, 1, 1); date.getYear() < 2023; date = date.plusDays(1)) {
+            assertThat(germany.isHoliday(date)).isEqualTo(calendar.isHoliday(date));
+            assertThat(germany.isWorkingDay(date)).isEqualTo(calendar.isWorkingDay(date));
+            for (GermanFederalState state : GermanFederalState.values()) {
+                assertThat(sut.isHoliday(state.getISO(), date)).isEqualTo(calendar.isHoliday(date, state));
+            }
+        }
+    }
+
+    @Test
+    public void testDaysOutsideOfYears() throws IOException {
+        HolidayCalendarStore sut = HolidayCalendarStore.open(ByteBuffer.wrap(germanStore()));
+        HolidayCalendarStore.Region region = sut.getRegion("DE-BY");
+        assertThat(region.getName()).isEqualTo("DE-BY");
+        assertThat(region.isHoliday(LocalDate.of(2021, 1, 6))).isTrue();
+        assertThat(region.isHoliday(LocalDate.of(2020, 12, 25))).isFalse();
+        assertThat(region.isHoliday(LocalDate.of(2022, 1, 1))).isFalse();
+        assertThat(region.isWorkingDay(LocalDate.of(2022, 1, 3).toEpochDay())).isTrue();
+        assertThat(sut.isWorkingDay("DE-BY", LocalDate.of(2021, 12, 31))).isTrue();
+    }
+
+    @Test
+    public void testUnknownRegion() throws IOException {
+        HolidayCalendarStore sut = HolidayCalendarStore.open(ByteBuffer.wrap(germanStore()));
+        assertThrows(IllegalArgumentException.class, () -> sut.getRegion("DE-XX"));
+    }
+
+    @Test
+    public void testCorruptStore() throws IOException {
+        byte[] bytes = germanStore();
+        assertThrows(HolidayException.class, () -> HolidayCalendarStore.open(ByteBuffer.wrap(Arrays.copyOf(bytes, bytes.length - 8))));
+        bytes[0] = 0;
+        assertThrows(HolidayException.class, () -> HolidayCalendarStore.open(ByteBuffer.wrap(bytes)));
+    }
+
+    @Test
+    public void testDuplicateRegion() {
+        HolidayCalendarStore.Writer sut = HolidayCalendarStore.writer(2021, 2021).region("DE", GERMAN_CONFIGURER);
+        assertThrows(IllegalArgumentException.class, () -> sut.region("DE", GERMAN_CONFIGURER));
+        assertThrows(IllegalArgumentException.class, () -> HolidayCalendarStore.writer(2022, 2021));
+    }
+
+    private static byte[] germanStore() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        HolidayCalendarStore.writer(2021, 2021)
+                .region("DE", GERMAN_CONFIGURER)
+                .region("DE-BY", GERMAN_CONFIGURER, GermanFederalState.BAYERN)
+                .write(out);
+        return out.toByteArray();
+    }
+
+    @Test
+    public void testWeekendOfRegion() {
+        HolidayCalendarConfigurer configurer = calendar -> {
+            calendar.setWeekend(Weekend.FRIDAY_SATURDAY);
+            calendar.setWeekend(GermanFederalState.BAYERN, Weekend.SUNDAY_ONLY);
+        };
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            HolidayCalendarStore.writer(2021, 2021)
+                    .region("nationwide", configurer)
+                    .region("DE-BY", configurer, GermanFederalState.BAYERN)
+                    .write(bytes);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        HolidayCalendarStore sut = HolidayCalendarStore.open(ByteBuffer.wrap(bytes.toByteArray()));
+        LocalDate friday = LocalDate.of(2021, 9, 17);
+        assertThat(sut.getRegion("nationwide").getWeekend()).isEqualTo(Weekend.FRIDAY_SATURDAY);
+        assertThat(sut.isWorkingDay("nationwide", friday)).isFalse();
+        assertThat(sut.isWorkingDay("nationwide", friday.plusDays(2))).isTrue();
+        assertThat(sut.isWorkingDay("DE-BY", friday)).isTrue();
+        assertThat(sut.isWorkingDay("DE-BY", friday.plusDays(2))).isFalse();
+    }
+
+}
@@ -4,6 +4,10 @@ import org.junit.jupiter.api.Test;
 import org.nordicthings.commons.holiday.*;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -68,13 +72,21 @@ public class HolidayCalendarTest {
     }
 
     @Test
-    public void testBuilderWithTooLongInterval() {
+    public void testBuilderWithMultiYearInterval() {
         LocalDate endDate = LocalDate.of(ANY_DATE.getYear() + 1, ANY_DATE.getMonthValue(), ANY_DATE.getDayOfMonth() + 1);
-        HolidayCalendar.Builder sut = HolidayCalendar.builder()
-                .periodStart(ANY_DATE)
-                .periodEnd(endDate)
-                .configurer(ANY_CONFIGURER);
-        assertThrows(IllegalStateException.class, sut::build);
+        HolidayCalendar sut = getCalendar(ANY_DATE, endDate);
+        assertThat(sut.getPeriodStart()).isEqualTo(ANY_DATE);
+        assertThat(sut.getPeriodEnd()).isEqualTo(endDate);
+    }
+
+    @Test
+    public void testBuilderWithYears() {
+        HolidayCalendar sut = HolidayCalendar.builder()
+                .forYears(2021, 2050)
+                .configurer(ANY_CONFIGURER)
+                .build();
+        assertThat(sut.getPeriodStart()).isEqualTo(LocalDate.of(2021,1,1));
+        assertThat(sut.getPeriodEnd()).isEqualTo(LocalDate.of(2050,12,31));
     }
 
     @Test
@@ -136,6 +148,59 @@ public class HolidayCalendarTest {
         assertThat(sut.getConcreteDate(holidayBeforeYearChange).getYear()).isEqualTo(begin.getYear());
     }
 
+    @Test
+    public void testConcreteDatesOfMultiYearCalendar() {
+        HolidayCalendar sut = getCalendar(LocalDate.of(2021, 12, 26), LocalDate.of(2024, 12, 25));
+        Holiday holiday = FixedHoliday.of(25, 12, "anyName");
+        assertThat(sut.getConcreteDate(holiday)).isEqualTo(LocalDate.of(2022, 12, 25));
+        assertThat(sut.getConcreteDates(holiday)).containsExactly(
+                LocalDate.of(2022, 12, 25), LocalDate.of(2023, 12, 25), LocalDate.of(2024, 12, 25));
+    }
+
+    @Test
+    public void testConcreteDateOutsideOfPeriod() {
+        HolidayCalendar sut = getCalendar(LocalDate.of(2021, 12, 1), LocalDate.of(2021, 12, 24));
+        Holiday holiday = FixedHoliday.of(25, 12, "anyName");
+        assertThat(sut.getConcreteDate(holiday)).isNull();
+        assertThat(sut.getConcreteDates(holiday)).isEmpty();
+    }
+
+    @Test
+    public void testMultiYearCalendar() {
+        HolidayCalendar sut = HolidayCalendar.builder()
+                .forYears(2021, 2050)
+                .configurer(holidayCalendar -> {
+                    holidayCalendar.addHoliday(FixedHoliday.of(25, 12, "Christmas"));
+                    holidayCalendar.addHoliday(EasterSunday.standard());
+                })
+                .build();
+        assertThat(sut.getHolidays()).hasSize(60);
+        assertThat(sut.isHoliday(LocalDate.of(2021, 12, 25))).isTrue();
+        assertThat(sut.isHoliday(LocalDate.of(2050, 12, 25))).isTrue();
+        assertThat(sut.isHoliday(LocalDate.of(2021, 4, 4))).isTrue();
+        assertThat(sut.isHoliday(LocalDate.of(2050, 4, 10))).isTrue();
+        assertThat(sut.isHoliday(LocalDate.of(2050, 4, 11))).isFalse();
+        assertThat(new ArrayList<>(sut.getHolidays().keySet())).isSorted();
+    }
+
+    @Test
+    public void testMultiYearCalendarSkipsInvalidYears() {
+        HolidayCalendar sut = HolidayCalendar.builder()
+                .forYears(1990, 1999)
+                .configurer(holidayCalendar -> holidayCalendar.addHoliday(DayOfPrayerAndRepentance.standard()))
+                .build();
+        assertThat(sut.getHolidays()).hasSize(5);
+        assertThat(sut.isHoliday(LocalDate.of(1995, 11, 22))).isTrue();
+    }
+
+    @Test
+    public void testGetNextWorkDayAcrossYearChange() {
+        HolidayCalendar sut = getCalendar(LocalDate.of(2021, 1, 1), LocalDate.of(2022, 12, 31));
+        sut.addHoliday(FixedHoliday.of(1, 1, "New Year"));
+        sut.addHoliday(FixedHoliday.of(31, 12, "New Year's Eve"));
+        assertThat(sut.getNextWorkingDay(LocalDate.of(2021, 12, 31))).contains(LocalDate.of(2022, 1, 3));
+    }
+
     @Test
     public void testIsHoliday() {
         HolidayCalendar sut = getCalendar(LocalDate.of(2021, 12, 1), LocalDate.of(2022, 1, 31));
@@ -158,6 +223,22 @@ public class HolidayCalendarTest {
         assertThat(sut.isHoliday(sut.getConcreteDate(holiday).minusDays(1),anyArea)).isFalse();
     }
 
+    @Test
+    public void testIsHolidayAfterLateAddition() {
+        HolidayCalendar sut = getCalendar(LocalDate.of(2021, 12, 1), LocalDate.of(2022, 1, 31));
+        assertThat(sut.isHoliday(LocalDate.of(2021, 12, 25))).isFalse();
+        sut.addHoliday(FixedHoliday.of(25, 12, "anyName"));
+        assertThat(sut.isHoliday(LocalDate.of(2021, 12, 25))).isTrue();
+    }
+
+    @Test
+    public void testIsHolidayOutsideOfPeriod() {
+        HolidayCalendar sut = getCalendar(LocalDate.of(2021, 12, 1), LocalDate.of(2021, 12, 31));
+        sut.addHoliday(FixedHoliday.of(25, 12, "anyName"));
+        assertThat(sut.isHoliday(LocalDate.of(2020, 12, 25))).isFalse();
+        assertThat(sut.isHoliday(LocalDate.of(2022, 12, 25))).isFalse();
+    }
+
 
     @Test
     public void testIsInPeriod() {
@@ -228,6 +309,402 @@ public class HolidayCalendarTest {
         assertThat(sut.getNextWorkingDay(end)).isEmpty();
     }
 
+    @Test
+    public void testPlusWorkingDays() {
+        HolidayCalendar sut = getCalendar(LocalDate.of(2021, 12, 1), LocalDate.of(2022, 1, 31));
+        sut.addHoliday(FixedHoliday.of(24, 12, "Christmas Eve"));
+        sut.addHoliday(FixedHoliday.of(31, 12, "New Year's Eve"));
+        LocalDate thursday = LocalDate.of(2021, 12, 23);
+        assertThat(sut.plusWorkingDays(thursday, 0)).contains(thursday);
+        assertThat(sut.plusWorkingDays(thursday, 1)).contains(LocalDate.of(2021, 12, 27));
+        assertThat(sut.plusWorkingDays(thursday, 5)).contains(LocalDate.of(2022, 1, 3));
+        assertThat(sut.plusWorkingDays(LocalDate.of(2021, 12, 25), 1)).contains(LocalDate.of(2021, 12, 27));
+        assertThat(sut.plusWorkingDays(thursday, -1)).contains(LocalDate.of(2021, 12, 22));
+        assertThat(sut.plusWorkingDays(thursday, 100)).isEmpty();
+        assertThat(sut.plusWorkingDays(LocalDate.of(2022, 2, 1), 1)).isEmpty();
+        assertThrows(IllegalArgumentException.class, () -> sut.plusWorkingDays(null, 1));
+    }
+
+    @Test
+    public void testMinusWorkingDays() {
+        HolidayCalendar sut = getCalendar(LocalDate.of(2021, 12, 1), LocalDate.of(2022, 1, 31));
+        sut.addHoliday(FixedHoliday.of(24, 12, "Christmas Eve"));
+        LocalDate monday = LocalDate.of(2021, 12, 27);
+        assertThat(sut.minusWorkingDays(monday, 0)).contains(monday);
+        assertThat(sut.minusWorkingDays(monday, 1)).contains(LocalDate.of(2021, 12, 23));
+        assertThat(sut.minusWorkingDays(LocalDate.of(2021, 12, 26), 1)).contains(LocalDate.of(2021, 12, 23));
+        assertThat(sut.minusWorkingDays(monday, -1)).contains(LocalDate.of(2021, 12, 28));
+        assertThat(sut.minusWorkingDays(LocalDate.of(2021, 12, 1), 1)).isEmpty();
+        assertThat(sut.minusWorkingDays(monday, Integer.MIN_VALUE)).isEmpty();
+    }
+
+    @Test
+    public void testWorkingDaysWithAreas() {
+        HolidayCalendar sut = getCalendar(LocalDate.of(2021, 9, 1), LocalDate.of(2021, 9, 30));
+        AdministrativeArea anyArea = new SimpleArea("any");
+        AdministrativeArea anotherArea = new SimpleArea("another");
+        sut.addHoliday(FixedHoliday.ofSpecificAreas(17, 9, "anyHoliday", anyArea));
+        LocalDate thursday = LocalDate.of(2021, 9, 16);
+        assertThat(sut.plusWorkingDays(thursday, 1)).contains(LocalDate.of(2021, 9, 17));
+        assertThat(sut.plusWorkingDays(thursday, 1, anotherArea)).contains(LocalDate.of(2021, 9, 17));
+        assertThat(sut.plusWorkingDays(thursday, 1, anyArea)).contains(LocalDate.of(2021, 9, 20));
+        assertThat(sut.plusWorkingDays(thursday, 1, anotherArea, anyArea)).contains(LocalDate.of(2021, 9, 20));
+        assertThat(sut.countWorkingDays(LocalDate.of(2021, 9, 1), LocalDate.of(2021, 9, 30))).isEqualTo(22);
+        assertThat(sut.countWorkingDays(LocalDate.of(2021, 9, 1), LocalDate.of(2021, 9, 30), anyArea)).isEqualTo(21);
+    }
+
+    @Test
+    public void testQueriesWithAreaSelector() {
+        HolidayCalendar sut = getCalendar(LocalDate.of(2021, 9, 1), LocalDate.of(2021, 9, 30));
+        AdministrativeArea anyArea = new SimpleArea("any");
+        AdministrativeArea anotherArea = new SimpleArea("another");
+        sut.addHoliday(FixedHoliday.ofSpecificAreas(17, 9, "anyHoliday", anyArea));
+        sut.addHoliday(FixedHoliday.of(1, 9, "nationwideHoliday"));
+        AreaSelector any = AreaSelector.of(anyArea);
+        AreaSelector another = AreaSelector.of(anotherArea);
+        LocalDate thursday = LocalDate.of(2021, 9, 16);
+        LocalDate friday = LocalDate.of(2021, 9, 17);
+        assertThat(sut.isHoliday(friday, any)).isTrue();
+        assertThat(sut.isHoliday(friday, another)).isFalse();
+        assertThat(sut.isHoliday(friday, AreaSelector.nationwide())).isFalse();
+        assertThat(sut.isHoliday(LocalDate.of(2021, 9, 1), another)).isTrue();
+        assertThat(sut.isHoliday(friday.toEpochDay(), any)).isTrue();
+        assertThat(sut.isWorkingDay(friday, any)).isFalse();
+        assertThat(sut.isWorkingDay(friday, another)).isTrue();
+        assertThat(sut.isWorkingDay(friday.toEpochDay(), AreaSelector.of(anotherArea, anyArea))).isFalse();
+        assertThat(sut.getNextWorkingDay(friday, any)).contains(LocalDate.of(2021, 9, 20));
+        assertThat(sut.nextWorkingDay(friday.toEpochDay(), another)).isEqualTo(friday.toEpochDay());
+        assertThat(sut.nextWorkingDay(LocalDate.of(2021, 10, 1).toEpochDay(), any)).isEqualTo(HolidayCalendar.NO_WORKING_DAY);
+        assertThat(sut.plusWorkingDays(thursday, 1, any)).contains(LocalDate.of(2021, 9, 20));
+        assertThat(sut.minusWorkingDays(LocalDate.of(2021, 9, 20), 1, any)).contains(thursday);
+        assertThat(sut.countWorkingDays(LocalDate.of(2021, 9, 1), LocalDate.of(2021, 9, 30), any)).isEqualTo(20);
+        assertThat(sut.countWorkingDays(LocalDate.of(2021, 9, 1), LocalDate.of(2021, 9, 30), another))
+                .isEqualTo(sut.countWorkingDays(LocalDate.of(2021, 9, 1), LocalDate.of(2021, 9, 30), anotherArea));
+    }
+
+    @Test
+    public void testHolidaysOnSameDate() {
+        HolidayCalendar sut = getCalendar(LocalDate.of(2021, 1, 1), LocalDate.of(2021, 12, 31));
+        AdministrativeArea anyArea = new SimpleArea("any");
+        Holiday easterSunday = EasterSunday.standard();
+        Holiday regional = FixedHoliday.ofSpecificAreas(4, 4, "anyHoliday", anyArea);
+        sut.addHoliday(easterSunday);
+        sut.addHoliday(regional);
+        LocalDate date = LocalDate.of(2021, 4, 4);
+        assertThat(sut.getHolidaysOn(date)).containsExactly(easterSunday, regional);
+        assertThat(sut.getHolidaysOn(date.plusDays(1))).isEmpty();
+        assertThat(sut.getHolidaysOn(LocalDate.of(2022, 4, 4))).isEmpty();
+        assertThat(sut.isHoliday(date)).isTrue();
+        assertThat(sut.isHoliday(date, anyArea)).isTrue();
+        assertThrows(IllegalArgumentException.class, () -> sut.getHolidaysOn(null));
+    }
+
+    @Test
+    public void testHolidaysBetween() {
+        HolidayCalendar sut = getCalendar(LocalDate.of(2021, 1, 1), LocalDate.of(2022, 12, 31));
+        AdministrativeArea anyArea = new SimpleArea("any");
+        Holiday christmas = FixedHoliday.of(25, 12, "christmas");
+        Holiday regional = FixedHoliday.ofSpecificAreas(24, 12, "regional", anyArea);
+        Holiday newYear = FixedHoliday.of(1, 1, "newYear");
+        sut.addHoliday(christmas);
+        sut.addHoliday(regional);
+        sut.addHoliday(newYear);
+        LocalDate from = LocalDate.of(2021, 12, 1);
+        LocalDate to = LocalDate.of(2022, 1, 1);
+        assertThat(sut.getHolidaysBetween(from, to)).containsExactly(
+                ConcreteHoliday.of(LocalDate.of(2021, 12, 25), christmas),
+                ConcreteHoliday.of(LocalDate.of(2022, 1, 1), newYear));
+        assertThat(sut.getHolidaysBetween(from, to, anyArea)).containsExactly(
+                ConcreteHoliday.of(LocalDate.of(2021, 12, 24), regional),
+                ConcreteHoliday.of(LocalDate.of(2021, 12, 25), christmas),
+                ConcreteHoliday.of(LocalDate.of(2022, 1, 1), newYear));
+        assertThat(sut.getHolidaysBetween(from, to.minusDays(1), AreaSelector.of(anyArea))).hasSize(2);
+        assertThat(sut.streamHolidays(LocalDate.of(2020, 1, 1), LocalDate.of(2030, 1, 1)).count()).isEqualTo(4);
+        assertThat(sut.getHolidaysBetween(LocalDate.of(2021, 12, 26), LocalDate.of(2021, 12, 31))).isEmpty();
+        assertThat(sut.getHolidaysBetween(LocalDate.of(2023, 1, 1), LocalDate.of(2023, 12, 31))).isEmpty();
+        assertThrows(IllegalArgumentException.class, () -> sut.getHolidaysBetween(to, from));
+        assertThrows(IllegalArgumentException.class, () -> sut.getHolidaysBetween(null, to));
+    }
+
+    @Test
+    public void testPreviousWorkingDay() {
+        HolidayCalendar sut = getCalendar(LocalDate.of(2021, 1, 1), LocalDate.of(2021, 12, 31));
+        AdministrativeArea anyArea = new SimpleArea("any");
+        sut.addHoliday(FixedHoliday.of(1, 1, "newYear"));
+        sut.addHoliday(GoodFriday.standard());
+        sut.addHoliday(EasterMonday.standard());
+        sut.addHoliday(FixedHoliday.ofSpecificAreas(1, 4, "anyHoliday", anyArea));
+        assertThat(sut.getPreviousWorkingDay(LocalDate.of(2021, 4, 5))).contains(LocalDate.of(2021, 4, 1));
+        assertThat(sut.getPreviousWorkingDay(LocalDate.of(2021, 4, 5), anyArea)).contains(LocalDate.of(2021, 3, 31));
+        assertThat(sut.getPreviousWorkingDay(LocalDate.of(2021, 4, 5), AreaSelector.of(anyArea))).contains(LocalDate.of(2021, 3, 31));
+        assertThat(sut.getPreviousWorkingDay(LocalDate.of(2021, 4, 6))).contains(LocalDate.of(2021, 4, 6));
+        assertThat(sut.getPreviousWorkingDay(LocalDate.of(2021, 1, 1))).isEmpty();
+        assertThat(sut.getPreviousWorkingDay(LocalDate.of(2022, 1, 3))).isEmpty();
+        assertThat(sut.previousWorkingDay(LocalDate.of(2021, 1, 4).toEpochDay())).isEqualTo(LocalDate.of(2021, 1, 4).toEpochDay());
+        assertThat(sut.previousWorkingDay(LocalDate.of(2021, 1, 3).toEpochDay())).isEqualTo(HolidayCalendar.NO_WORKING_DAY);
+        assertThat(sut.getNextWorkingDay(LocalDate.of(2021, 4, 2))).contains(LocalDate.of(2021, 4, 6));
+    }
+
+    @Test
+    public void testAdjust() {
+        HolidayCalendar sut = getCalendar(LocalDate.of(2021, 1, 1), LocalDate.of(2021, 12, 31));
+        sut.addHoliday(GoodFriday.standard());
+        sut.addHoliday(EasterMonday.standard());
+        sut.addHoliday(FixedHoliday.of(1, 5, "labourDay"));
+        LocalDate easterSaturday = LocalDate.of(2021, 4, 3);
+        assertThat(sut.adjust(easterSaturday, BusinessDayConvention.FOLLOWING)).contains(LocalDate.of(2021, 4, 6));
+        assertThat(sut.adjust(easterSaturday, BusinessDayConvention.MODIFIED_FOLLOWING)).contains(LocalDate.of(2021, 4, 6));
+        assertThat(sut.adjust(easterSaturday, BusinessDayConvention.PRECEDING)).contains(LocalDate.of(2021, 4, 1));
+        assertThat(sut.adjust(easterSaturday, BusinessDayConvention.MODIFIED_PRECEDING)).contains(LocalDate.of(2021, 4, 1));
+        // Saturday, the following Monday lies in August
+        LocalDate endOfJuly = LocalDate.of(2021, 7, 31);
+        assertThat(sut.adjust(endOfJuly, BusinessDayConvention.FOLLOWING)).contains(LocalDate.of(2021, 8, 2));
+        assertThat(sut.adjust(endOfJuly, BusinessDayConvention.MODIFIED_FOLLOWING)).contains(LocalDate.of(2021, 7, 30));
+        // Saturday and holiday, the preceding Friday lies in April
+        LocalDate labourDay = LocalDate.of(2021, 5, 1);
+        assertThat(sut.adjust(labourDay, BusinessDayConvention.PRECEDING)).contains(LocalDate.of(2021, 4, 30));
+        assertThat(sut.adjust(labourDay, BusinessDayConvention.MODIFIED_PRECEDING, AreaSelector.nationwide())).contains(LocalDate.of(2021, 5, 3));
+        for (BusinessDayConvention convention : BusinessDayConvention.values()) {
+            assertThat(sut.adjust(LocalDate.of(2021, 4, 1), convention)).contains(LocalDate.of(2021, 4, 1));
+        }
+        assertThat(sut.adjust(LocalDate.of(2022, 1, 1), BusinessDayConvention.FOLLOWING)).isEmpty();
+        assertThrows(IllegalArgumentException.class, () -> sut.adjust(easterSaturday, null));
+    }
+
+    @Test
+    public void testLastWorkingDayOfMonth() {
+        HolidayCalendar sut = getCalendar(LocalDate.of(2021, 1, 1), LocalDate.of(2021, 12, 31));
+        AdministrativeArea anyArea = new SimpleArea("any");
+        sut.addHoliday(FixedHoliday.of(31, 12, "newYearsEve"));
+        sut.addHoliday(FixedHoliday.ofSpecificAreas(30, 7, "anyHoliday", anyArea));
+        assertThat(sut.getLastWorkingDayOfMonth(YearMonth.of(2021, 12))).contains(LocalDate.of(2021, 12, 30));
+        assertThat(sut.getLastWorkingDayOfMonth(YearMonth.of(2021, 7))).contains(LocalDate.of(2021, 7, 30));
+        assertThat(sut.getLastWorkingDayOfMonth(YearMonth.of(2021, 7), anyArea)).contains(LocalDate.of(2021, 7, 29));
+        assertThat(sut.getLastWorkingDayOfMonth(YearMonth.of(2021, 7), AreaSelector.of(anyArea))).contains(LocalDate.of(2021, 7, 29));
+        assertThat(sut.getLastWorkingDayOfMonth(YearMonth.of(2022, 1))).isEmpty();
+        assertThat(sut.getLastWorkingDayOfMonth(YearMonth.of(2020, 12))).isEmpty();
+        assertThrows(IllegalArgumentException.class, () -> sut.getLastWorkingDayOfMonth(null));
+    }
+
+    @Test
+    public void testQueriesWithAreaSelectorOfNull() {
+        HolidayCalendar sut = getCalendar(LocalDate.of(2021, 9, 1), LocalDate.of(2021, 9, 30));
+        assertThrows(IllegalArgumentException.class, () -> sut.isHoliday(ANY_DATE, (AreaSelector) null));
+        assertThrows(IllegalArgumentException.class, () -> sut.countWorkingDays(ANY_DATE, ANY_DATE, (AreaSelector) null));
+    }
+
+    @Test
+    public void testCountWorkingDays() {
+        HolidayCalendar sut = getCalendar(LocalDate.of(2021, 12, 1), LocalDate.of(2022, 1, 31));
+        sut.addHoliday(FixedHoliday.of(24, 12, "Christmas Eve"));
+        LocalDate friday = LocalDate.of(2021, 12, 24);
+        assertThat(sut.countWorkingDays(friday, friday)).isZero();
+        assertThat(sut.countWorkingDays(friday.minusDays(1), friday.minusDays(1))).isOne();
+        assertThat(sut.countWorkingDays(LocalDate.of(2021, 12, 20), LocalDate.of(2021, 12, 31))).isEqualTo(9);
+        assertThat(sut.countWorkingDays(LocalDate.of(2021, 12, 1), LocalDate.of(2022, 1, 31))).isEqualTo(43);
+        assertThrows(IllegalArgumentException.class, () -> sut.countWorkingDays(friday, friday.minusDays(1)));
+        assertThrows(IllegalArgumentException.class, () -> sut.countWorkingDays(friday, LocalDate.of(2022, 2, 1)));
+        assertThrows(IllegalArgumentException.class, () -> sut.countWorkingDays(null, friday));
+    }
+
+    @Test
+    public void testBuilderWithFrozenCalendar() {
+        HolidayCalendar sut = HolidayCalendar.builder()
+                .forYear(2021)
+                .configurer(holidayCalendar -> holidayCalendar.addHoliday(FixedHoliday.of(25, 12, "anyName")))
+                .frozen()
+                .build();
+        assertThat(sut.isFrozen()).isTrue();
+        assertThat(sut.isHoliday(LocalDate.of(2021, 12, 25))).isTrue();
+        assertThrows(UnsupportedOperationException.class, () -> sut.addHoliday(FixedHoliday.of(24, 12, "anyName")));
+        assertThrows(UnsupportedOperationException.class, () -> sut.getHolidays().clear());
+    }
+
+    @Test
+    public void testFreeze() {
+        HolidayCalendar calendar = getCalendar(LocalDate.of(2021, 12, 1), LocalDate.of(2021, 12, 31));
+        calendar.addHoliday(FixedHoliday.of(25, 12, "anyName"));
+        HolidayCalendar sut = calendar.freeze();
+        calendar.addHoliday(FixedHoliday.of(24, 12, "anyName"));
+        assertThat(calendar.isFrozen()).isFalse();
+        assertThat(sut.isFrozen()).isTrue();
+        assertThat(sut.freeze()).isSameAs(sut);
+        assertThat(sut.isHoliday(LocalDate.of(2021, 12, 24))).isFalse();
+        assertThat(sut.isHoliday(LocalDate.of(2021, 12, 25))).isTrue();
+        assertThat(calendar.isHoliday(LocalDate.of(2021, 12, 24))).isTrue();
+    }
+
+    @Test
+    public void testWithHoliday() {
+        HolidayCalendar calendar = getCalendar(LocalDate.of(2021, 12, 1), LocalDate.of(2021, 12, 31)).freeze();
+        HolidayCalendar sut = calendar.withHoliday(FixedHoliday.of(25, 12, "anyName"));
+        assertThat(sut).isNotSameAs(calendar);
+        assertThat(sut.isFrozen()).isTrue();
+        assertThat(sut.isHoliday(LocalDate.of(2021, 12, 25))).isTrue();
+        assertThat(calendar.isHoliday(LocalDate.of(2021, 12, 25))).isFalse();
+        assertThat(calendar.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void testWithHolidays() {
+        HolidayCalendar calendar = getCalendar(LocalDate.of(2021, 12, 1), LocalDate.of(2021, 12, 31));
+        calendar.addHoliday(FixedHoliday.of(24, 12, "anyName"));
+        HolidayCalendar sut = calendar.withHolidays(Arrays.asList(
+                FixedHoliday.of(25, 12, "anyName"), FixedHoliday.of(1, 1, "notInPeriod")));
+        assertThat(sut.getHolidays()).containsOnlyKeys(LocalDate.of(2021, 12, 24), LocalDate.of(2021, 12, 25));
+        assertThat(calendar.getHolidays()).containsOnlyKeys(LocalDate.of(2021, 12, 24));
+    }
+
+    @Test
+    public void testAreHolidaysAndWorkingDays() {
+        HolidayCalendar sut = getCalendar(LocalDate.of(2021, 9, 1), LocalDate.of(2021, 9, 30));
+        AdministrativeArea anyArea = new SimpleArea("any");
+        sut.addHoliday(FixedHoliday.ofSpecificAreas(17, 9, "anyHoliday", anyArea));
+        LocalDate[] dates = {LocalDate.of(2021, 9, 16), LocalDate.of(2021, 9, 17), LocalDate.of(2021, 9, 18), LocalDate.of(2021, 10, 1)};
+        long[] epochDays = Arrays.stream(dates).mapToLong(LocalDate::toEpochDay).toArray();
+        assertThat(sut.areHolidays(dates)).containsExactly(false, false, false, false);
+        assertThat(sut.areHolidays(dates, anyArea)).containsExactly(false, true, false, false);
+        assertThat(sut.areHolidays(epochDays, anyArea)).containsExactly(false, true, false, false);
+        assertThat(sut.areWorkingDays(dates)).containsExactly(true, true, false, true);
+        assertThat(sut.areWorkingDays(dates, anyArea)).containsExactly(true, false, false, true);
+        assertThat(sut.areWorkingDays(epochDays, anyArea)).containsExactly(true, false, false, true);
+        assertThrows(IllegalArgumentException.class, () -> sut.areWorkingDays((LocalDate[]) null));
+        assertThrows(IllegalArgumentException.class, () -> sut.areWorkingDays(new LocalDate[]{null}));
+    }
+
+    @Test
+    public void testLargeBatchesMatchSingleQueries() {
+        HolidayCalendar sut = HolidayCalendar.builder()
+                .forYears(2000, 2099)
+                .configurer(holidayCalendar -> {
+                    holidayCalendar.addHoliday(FixedHoliday.of(25, 12, "Christmas"));
+                    holidayCalendar.addHoliday(EasterMonday.standard());
+                })
+                .build();
+        LocalDate[] dates = new LocalDate[HolidayCalendar.PARALLEL_THRESHOLD + 1];
+        for (int i = 0; i < dates.length; i++) {
+            dates[i] = LocalDate.of(1999, 12, 1).plusDays(i % 40000);
+        }
+        boolean[] holidays = sut.areHolidays(dates);
+        boolean[] workingDays = sut.areWorkingDays(dates);
+        for (int i = 0; i < dates.length; i++) {
+            assertThat(holidays[i]).isEqualTo(sut.isHoliday(dates[i]));
+            assertThat(workingDays[i]).isEqualTo(sut.isWorkingDay(dates[i]));
+        }
+    }
+
+    @Test
+    public void testFilterHolidaysAndWorkingDays() {
+        HolidayCalendar sut = getCalendar(LocalDate.of(2021, 12, 1), LocalDate.of(2021, 12, 31));
+        sut.addHoliday(FixedHoliday.of(24, 12, "Christmas Eve"));
+        sut.addHoliday(FixedHoliday.of(25, 12, "Christmas"));
+        Stream<LocalDate> dates = Stream.iterate(LocalDate.of(2021, 12, 22), date -> date.plusDays(1)).limit(6);
+        assertThat(sut.filterWorkingDays(dates)).containsExactly(
+                LocalDate.of(2021, 12, 22), LocalDate.of(2021, 12, 23), LocalDate.of(2021, 12, 27));
+        assertThat(sut.filterHolidays(Stream.of(LocalDate.of(2021, 12, 23), LocalDate.of(2021, 12, 24), LocalDate.of(2021, 12, 25))))
+                .containsExactly(LocalDate.of(2021, 12, 24), LocalDate.of(2021, 12, 25));
+    }
+
+    @Test
+    public void testEpochDayQueries() {
+        HolidayCalendar sut = getCalendar(LocalDate.of(2021, 9, 1), LocalDate.of(2021, 9, 30));
+        AdministrativeArea anyArea = new SimpleArea("any");
+        sut.addHoliday(FixedHoliday.ofSpecificAreas(17, 9, "anyHoliday", anyArea));
+        long thursday = LocalDate.of(2021, 9, 16).toEpochDay();
+        long friday = LocalDate.of(2021, 9, 17).toEpochDay();
+        assertThat(sut.isHoliday(friday)).isFalse();
+        assertThat(sut.isHoliday(friday, anyArea)).isTrue();
+        assertThat(sut.isWorkingDay(thursday, anyArea)).isTrue();
+        assertThat(sut.isWorkingDay(friday, anyArea)).isFalse();
+        assertThat(sut.isWorkingDay(friday + 1)).isFalse();
+        assertThat(HolidayCalendar.isWeekend(friday)).isFalse();
+        assertThat(HolidayCalendar.isWeekend(friday + 2)).isTrue();
+        assertThat(sut.nextWorkingDay(friday)).isEqualTo(friday);
+        assertThat(sut.nextWorkingDay(friday, anyArea)).isEqualTo(LocalDate.of(2021, 9, 20).toEpochDay());
+        assertThat(sut.nextWorkingDay(LocalDate.of(2021, 8, 31).toEpochDay())).isEqualTo(HolidayCalendar.NO_WORKING_DAY);
+        assertThat(sut.nextWorkingDay(LocalDate.of(2021, 10, 1).toEpochDay())).isEqualTo(HolidayCalendar.NO_WORKING_DAY);
+    }
+
+    @Test
+    public void testWeekend() {
+        HolidayCalendar sut = HolidayCalendar.builder()
+                .forYear(2021)
+                .configurer(calendar -> calendar.setWeekend(Weekend.FRIDAY_SATURDAY))
+                .build();
+        LocalDate friday = LocalDate.of(2021, 9, 17);
+        LocalDate sunday = LocalDate.of(2021, 9, 19);
+        assertThat(sut.getWeekend()).isEqualTo(Weekend.FRIDAY_SATURDAY);
+        assertThat(sut.isWorkingDay(friday)).isFalse();
+        assertThat(sut.isWorkingDay(sunday)).isTrue();
+        assertThat(sut.isWorkingDay(sunday.toEpochDay(), AreaSelector.nationwide())).isTrue();
+        assertThat(sut.getNextWorkingDay(friday)).contains(sunday);
+        assertThat(sut.getPreviousWorkingDay(sunday.minusDays(1))).contains(friday.minusDays(1));
+        assertThat(sut.countWorkingDays(LocalDate.of(2021, 9, 13), sunday)).isEqualTo(5);
+        assertThat(sut.areWorkingDays(new LocalDate[]{friday, sunday})).containsExactly(false, true);
+        assertThat(sut.withHoliday(FixedHoliday.of(1, 1, "anyName")).getWeekend()).isEqualTo(Weekend.FRIDAY_SATURDAY);
+        assertThat(sut.freeze().getWeekend()).isEqualTo(Weekend.FRIDAY_SATURDAY);
+        assertThat(HolidayCalendar.isWeekend(friday)).isFalse();
+    }
+
+    @Test
+    public void testWeekendOfArea() {
+        AdministrativeArea plant = new SimpleArea("plant");
+        AdministrativeArea office = new SimpleArea("office");
+        HolidayCalendar sut = getCalendar(LocalDate.of(2021, 9, 1), LocalDate.of(2021, 9, 30));
+        sut.setWeekend(plant, Weekend.SUNDAY_ONLY);
+        sut.setWeekend(office, Weekend.SATURDAY_SUNDAY);
+        LocalDate saturday = LocalDate.of(2021, 9, 18);
+        assertThat(sut.getWeekend(plant)).isEqualTo(Weekend.SUNDAY_ONLY);
+        assertThat(sut.getWeekend(new SimpleArea("any"))).isEqualTo(Weekend.SATURDAY_SUNDAY);
+        assertThat(sut.isWorkingDay(saturday)).isFalse();
+        assertThat(sut.isWorkingDay(saturday, plant)).isTrue();
+        assertThat(sut.isWorkingDay(saturday, plant, office)).isFalse();
+        assertThat(sut.isWorkingDay(saturday, AreaSelector.of(plant))).isTrue();
+        assertThat(sut.getNextWorkingDay(saturday, plant)).contains(saturday);
+        assertThat(sut.getNextWorkingDay(saturday, AreaSelector.of(plant, office))).contains(saturday.plusDays(2));
+        assertThat(sut.countWorkingDays(LocalDate.of(2021, 9, 1), LocalDate.of(2021, 9, 30), plant)).isEqualTo(26);
+    }
+
+    @Test
+    public void testWeekendOfDeviatingAndStandardArea() {
+        AdministrativeArea plant = new SimpleArea("plant");
+        AdministrativeArea office = new SimpleArea("office");
+        HolidayCalendar sut = getCalendar(LocalDate.of(2024, 6, 1), LocalDate.of(2024, 6, 30));
+        sut.setWeekend(plant, Weekend.FRIDAY_SATURDAY);
+        LocalDate sunday = LocalDate.of(2024, 6, 2);
+        assertThat(sut.isWorkingDay(sunday, plant)).isTrue();
+        assertThat(sut.isWorkingDay(sunday, plant, office)).isFalse();
+        assertThat(sut.isWorkingDay(sunday.toEpochDay(), AreaSelector.of(plant, office))).isFalse();
+        assertThat(sut.countWorkingDays(sunday, sunday, plant, office)).isZero();
+        assertThat(sut.getNextWorkingDay(sunday, plant, office)).contains(sunday.plusDays(1));
+        assertThat(sut.getPreviousWorkingDay(sunday, plant, office)).isEmpty();
+        assertThat(sut.plusWorkingDays(sunday, 4, plant, office)).contains(LocalDate.of(2024, 6, 6));
+        for (LocalDate date = sut.getPeriodStart(); !date.isAfter(sut.getPeriodEnd()); date = date.plusDays(1)) {
+            boolean expected = !Weekend.FRIDAY_SATURDAY.isWeekend(date) && !Weekend.SATURDAY_SUNDAY.isWeekend(date);
+            assertThat(sut.isWorkingDay(date, plant, office)).as(date.toString()).isEqualTo(expected);
+            assertThat(sut.countWorkingDays(date, date, office, plant)).isEqualTo(expected ? 1 : 0);
+        }
+        // outside of the period the same weekend applies
+        assertThat(sut.isWorkingDay(LocalDate.of(2024, 7, 5), plant, office)).isFalse();
+        assertThat(sut.isWorkingDay(LocalDate.of(2024, 7, 7), plant, office)).isFalse();
+    }
+
+    @Test
+    public void testWeekendOfFrozenCalendar() {
+        HolidayCalendar sut = getCalendar(LocalDate.of(2021, 9, 1), LocalDate.of(2021, 9, 30)).freeze();
+        assertThrows(UnsupportedOperationException.class, () -> sut.setWeekend(Weekend.NONE));
+        assertThrows(UnsupportedOperationException.class, () -> sut.setWeekend(new SimpleArea("any"), Weekend.NONE));
+        assertThrows(IllegalArgumentException.class, () -> getCalendar(ANY_DATE, ANY_DATE).setWeekend(null));
+        HolidayCalendar calendar = getCalendar(LocalDate.of(2021, 9, 1), LocalDate.of(2021, 9, 30));
+        calendar.setWeekend(Weekend.FRIDAY_SATURDAY);
+        HolidayCalendar frozen = calendar.freeze().withHoliday(FixedHoliday.of(2, 9, "anyName"));
+        calendar.setWeekend(Weekend.SUNDAY_ONLY);
+        assertThat(frozen.getWeekend()).isEqualTo(Weekend.FRIDAY_SATURDAY);
+        assertThat(frozen.isWorkingDay(LocalDate.of(2021, 9, 3))).isFalse();
+        assertThat(frozen.isWorkingDay(LocalDate.of(2021, 9, 2))).isFalse();
+        assertThat(frozen.isWorkingDay(LocalDate.of(2021, 9, 5))).isTrue();
+    }
+
     private static HolidayCalendar getCalendar(LocalDate begin, LocalDate end) {
         return HolidayCalendar.builder()
                 .periodStart(begin)
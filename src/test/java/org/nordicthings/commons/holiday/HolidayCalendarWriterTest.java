@@ -0,0 +1,57 @@
+package org.nordicthings.commons.holiday;
+
+import org.junit.jupiter.api.Test;
+import org.nordicthings.commons.holiday.german.GermanFederalState;
+import org.nordicthings.commons.holiday.german.SimpleGermanHolidayCalendarConfigurer;
+
+import java.nio.ByteBuffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HolidayCalendarWriterTest {
+
+    @Test
+    public void testLayout() {
+        HolidayCalendar calendar = HolidayCalendar.builder()
+                .forYear(2021)
+                .build();
+        calendar.addHoliday(FixedHoliday.of(25, 12, "christmas", "Christmas"));
+        ByteBuffer sut = ByteBuffer.wrap(HolidayCalendarWriter.toBytes(calendar));
+        assertThat(sut.getInt()).isEqualTo(0x4843414C);
+        assertThat(sut.getShort()).isEqualTo((short) 2);
+        assertThat(sut.getLong()).isEqualTo(calendar.getPeriodStart().toEpochDay());
+        assertThat(sut.getLong()).isEqualTo(calendar.getPeriodEnd().toEpochDay());
+        assertThat(sut.getInt()).isEqualTo(2);
+        assertThat(sut.getInt()).isEqualTo(9);
+        sut.get(new byte[9]);
+        assertThat(sut.getInt()).isEqualTo(9);
+        sut.get(new byte[9]);
+        assertThat(sut.getInt()).isOne();
+        assertThat(sut.getInt()).isZero();
+        assertThat(sut.getInt()).isOne();
+        assertThat(sut.getInt()).isZero();
+        assertThat(sut.getInt()).isOne();
+        assertThat(sut.getInt()).isEqualTo(358);
+        assertThat(sut.getInt()).isZero();
+        assertThat(sut.get()).isEqualTo((byte) Weekend.SATURDAY_SUNDAY.getMask());
+        assertThat(sut.getInt()).isZero();
+        assertThat(sut.hasRemaining()).isFalse();
+    }
+
+    @Test
+    public void testDeterministic() {
+        HolidayCalendar calendar = HolidayCalendar.builder()
+                .forYears(2021, 2030)
+                .configurer(new SimpleGermanHolidayCalendarConfigurer())
+                .build();
+        HolidayCalendar anotherCalendar = HolidayCalendar.builder()
+                .forYears(2021, 2030)
+                .configurer(new SimpleGermanHolidayCalendarConfigurer())
+                .build();
+        assertThat(HolidayCalendarWriter.toBytes(calendar)).isEqualTo(HolidayCalendarWriter.toBytes(anotherCalendar));
+        byte[] restored = HolidayCalendarWriter.toBytes(HolidayCalendarReader.of(GermanFederalState.values())
+                .read(ByteBuffer.wrap(HolidayCalendarWriter.toBytes(calendar))));
+        assertThat(restored).isEqualTo(HolidayCalendarWriter.toBytes(calendar));
+    }
+
+}
@@ -0,0 +1,172 @@
+package org.nordicthings.commons.holiday;
+
+import org.junit.jupiter.api.Test;
+import org.nordicthings.commons.holiday.german.GermanFederalState;
+import org.nordicthings.commons.holiday.german.SimpleGermanHolidayCalendarConfigurer;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class HolidayDefinitionConfigurerTest {
+
+    @Test
+    public void testSameHolidaysAsCodedConfigurer() throws IOException {
+        HolidayDefinitionConfigurer sut;
+        try (Reader reader = new InputStreamReader(getClass().getResourceAsStream("german.properties"), StandardCharsets.UTF_8)) {
+            Map<String, GermanFederalState> states = new HashMap<>();
+            Arrays.stream(GermanFederalState.values()).forEach(state -> states.put(state.getISO(), state));
+            sut = HolidayDefinitionConfigurer.load(reader, states::get);
+        }
+        HolidayCalendar declared = HolidayCalendar.builder().forYears(1990, 2030).configurer(sut).build();
+        HolidayCalendar coded = HolidayCalendar.builder().forYears(1990, 2030)
+                .configurer(new SimpleGermanHolidayCalendarConfigurer()).build();
+        for (LocalDate date = declared.getPeriodStart(); !date.isAfter(declared.getPeriodEnd()); date = date.plusDays(1)) {
+            assertThat(declared.isHoliday(date)).as(date.toString()).isEqualTo(coded.isHoliday(date));
+            for (GermanFederalState state : GermanFederalState.values()) {
+                assertThat(declared.isHoliday(date, state)).as(date + " " + state).isEqualTo(coded.isHoliday(date, state));
+            }
+        }
+        assertThat(declared.getHolidaysOn(LocalDate.of(2021, 11, 17))).extracting(Holiday::getName).containsExactly("Buß- und Bettag");
+    }
+
+    @Test
+    public void testRules() {
+        HolidayDefinitionConfigurer sut = HolidayDefinitionConfigurer.of(properties(
+                "ashWednesday.easter = -46",
+                "paskha.orthodoxEaster = 0",
+                "memorialDay.weekday = last MONDAY of 5",
+                "thanksgiving.weekday = fourth thursday of 11",
+                "midsummer.weekday = SATURDAY after 06-19",
+                "liberation.date = 2020-05-08",
+                "liberation.name = Tag der Befreiung"));
+        HolidayCalendar calendar = HolidayCalendar.builder().forYears(2020, 2021).configurer(sut).build();
+        assertThat(calendar.isHoliday(LocalDate.of(2021, 2, 17))).isTrue();
+        assertThat(calendar.isHoliday(LocalDate.of(2021, 5, 2))).isTrue();
+        assertThat(calendar.isHoliday(LocalDate.of(2021, 5, 31))).isTrue();
+        assertThat(calendar.isHoliday(LocalDate.of(2021, 11, 25))).isTrue();
+        assertThat(calendar.isHoliday(LocalDate.of(2021, 6, 26))).isTrue();
+        assertThat(calendar.isHoliday(LocalDate.of(2020, 5, 8))).isTrue();
+        assertThat(calendar.isHoliday(LocalDate.of(2021, 5, 8))).isFalse();
+        assertThat(sut.getHolidays()).extracting(Holiday::getName)
+                .containsExactly("ashWednesday", "Tag der Befreiung", "memorialDay", "midsummer", "paskha", "thanksgiving");
+    }
+
+    @Test
+    public void testYearRestriction() {
+        HolidayDefinitionConfigurer sut = HolidayDefinitionConfigurer.of(properties(
+                "womensDay.date = 03-08", "womensDay.areas = DE-BE", "womensDay.from = 2019"), GermanFederalState.values());
+        HolidayCalendar calendar = HolidayCalendar.builder().forYears(2018, 2019).configurer(sut).build();
+        assertThat(calendar.isHoliday(LocalDate.of(2018, 3, 8), GermanFederalState.BERLIN)).isFalse();
+        assertThat(calendar.isHoliday(LocalDate.of(2019, 3, 8), GermanFederalState.BERLIN)).isTrue();
+        assertThat(calendar.isHoliday(LocalDate.of(2019, 3, 8), GermanFederalState.BAYERN)).isFalse();
+        assertThat(sut.getHolidays().get(0).getMinimalYear()).isEqualTo(2019);
+    }
+
+    @Test
+    public void testRulesWhichDoNotTakePlaceEveryYear() {
+        HolidayDefinitionConfigurer sut = HolidayDefinitionConfigurer.of(properties(
+                "leapDay.date = 02-29", "fifthMonday.weekday = fifth MONDAY of 2"));
+        HolidayCalendar calendar = HolidayCalendar.builder().forYears(2020, 2021).configurer(sut).build();
+        assertThat(calendar.getHolidays().keySet()).containsExactly(LocalDate.of(2020, 2, 29));
+        HolidayCalendar nonLeapYear = HolidayCalendar.builder().forYear(2021).configurer(sut).build();
+        assertThat(nonLeapYear.getHolidays()).isEmpty();
+        assertThat(nonLeapYear.isHoliday(LocalDate.of(2021, 3, 1))).isFalse();
+    }
+
+    @Test
+    public void testCachedRulesAreBounded() {
+        for (int offset = 0; offset < HolidayDefinitionConfigurer.MAX_RULES + 10; offset++) {
+            HolidayDefinitionConfigurer.of(properties("any.date = " + (2000 + offset) + "-01-01"));
+        }
+        assertThat(HolidayDefinitionConfigurer.cachedRules()).isEqualTo(HolidayDefinitionConfigurer.MAX_RULES);
+    }
+
+    @Test
+    public void testWeekends() {
+        HolidayDefinitionConfigurer sut = HolidayDefinitionConfigurer.of(properties(
+                "weekend = friday, SATURDAY", "weekend.DE-BY = SUNDAY", "newYear.date = 01-01"), GermanFederalState.values());
+        HolidayCalendar calendar = HolidayCalendar.builder().forYear(2021).configurer(sut).build();
+        assertThat(calendar.getWeekend()).isEqualTo(Weekend.FRIDAY_SATURDAY);
+        assertThat(calendar.getWeekend(GermanFederalState.BAYERN)).isEqualTo(Weekend.SUNDAY_ONLY);
+        assertThat(sut.getHolidays()).hasSize(1);
+        assertThatThrownBy(() -> HolidayDefinitionConfigurer.of(properties("weekend = FREITAG")))
+                .isInstanceOf(HolidayException.class);
+        assertThatThrownBy(() -> HolidayDefinitionConfigurer.of(properties("weekend.XX = SUNDAY")))
+                .isInstanceOf(HolidayException.class);
+    }
+
+    @Test
+    public void testLoadFile() throws IOException {
+        Path file = Files.createTempFile("holidays", ".properties");
+        try {
+            Files.write(file, Arrays.asList("prayer.weekday = WEDNESDAY before 11-23", "prayer.name = Buß- und Bettag",
+                    "prayer.areas = DE-SN"), StandardCharsets.UTF_8);
+            HolidayDefinitionConfigurer sut = HolidayDefinitionConfigurer.load(file, GermanFederalState.values());
+            assertThat(sut.getHolidays()).hasSize(1);
+            assertThat(sut.getHolidays().get(0).getName()).isEqualTo("Buß- und Bettag");
+            assertThat(sut.getHolidays().get(0).getAdministrativeAreas()).containsExactly(GermanFederalState.SACHSEN);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testEquality() {
+        HolidayDefinitionConfigurer sut = HolidayDefinitionConfigurer.of(properties("newYear.date = 01-01"));
+        assertThat(sut).isEqualTo(HolidayDefinitionConfigurer.of(properties("newYear.date=01-01 ")));
+        assertThat(sut).hasSameHashCodeAs(HolidayDefinitionConfigurer.of(properties("newYear.date=01-01")));
+        assertThat(sut).isNotEqualTo(HolidayDefinitionConfigurer.of(properties("newYear.date = 01-02")));
+        HolidayCalendarCache cache = HolidayCalendarCache.builder().build();
+        assertThat(cache.get(HolidayDefinitionConfigurer.of(properties("newYear.date=01-01")), 2021))
+                .isSameAs(cache.get(sut, 2021));
+    }
+
+    @Test
+    public void testInvalidDefinitions() {
+        assertThatThrownBy(() -> HolidayDefinitionConfigurer.of(properties("newYear.day = 01-01")))
+                .isInstanceOf(HolidayException.class);
+        assertThatThrownBy(() -> HolidayDefinitionConfigurer.of(properties("newYear.name = Neujahr")))
+                .isInstanceOf(HolidayException.class);
+        assertThatThrownBy(() -> HolidayDefinitionConfigurer.of(properties("newYear.date = 01-01", "newYear.easter = 1")))
+                .isInstanceOf(HolidayException.class);
+        assertThatThrownBy(() -> HolidayDefinitionConfigurer.of(properties("newYear.date = 13-01")))
+                .isInstanceOf(HolidayException.class);
+        assertThatThrownBy(() -> HolidayDefinitionConfigurer.of(properties("any.easter = 300")))
+                .isInstanceOf(HolidayException.class);
+        assertThatThrownBy(() -> HolidayDefinitionConfigurer.of(properties("any.weekday = sixth MONDAY of 5")))
+                .isInstanceOf(HolidayException.class);
+        assertThatThrownBy(() -> HolidayDefinitionConfigurer.of(properties("any.weekday = MONDAY around 05-01")))
+                .isInstanceOf(HolidayException.class);
+        assertThatThrownBy(() -> HolidayDefinitionConfigurer.of(properties("any.date = 01-01", "any.from = soon")))
+                .isInstanceOf(HolidayException.class);
+        assertThatThrownBy(() -> HolidayDefinitionConfigurer.of(properties("any.date = 01-01", "any.areas = XX")))
+                .isInstanceOf(HolidayException.class)
+                .hasMessageContaining("XX");
+        assertThatThrownBy(() -> HolidayDefinitionConfigurer.of(null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Properties properties(String... lines) {
+        Properties properties = new Properties();
+        try {
+            properties.load(new StringReader(String.join("\n", lines)));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return properties;
+    }
+
+}
@@ -0,0 +1,200 @@
+package org.nordicthings.commons.holiday;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HolidayIndexTest {
+
+    private static final LocalDate PERIOD_START = LocalDate.of(2021, 1, 1);
+    private static final LocalDate PERIOD_END = LocalDate.of(2021, 12, 31);
+    private static final AdministrativeArea ANY_AREA = new SimpleArea("any");
+    private static final AdministrativeArea ANOTHER_AREA = new SimpleArea("another");
+
+    @Test
+    public void testNationwideHoliday() {
+        HolidayIndex sut = compile(FixedHoliday.of(25, 12, "anyName"));
+        assertThat(sut.isHoliday(LocalDate.of(2021, 12, 25).toEpochDay())).isTrue();
+        assertThat(sut.isHoliday(LocalDate.of(2021, 12, 25).toEpochDay(), ANY_AREA)).isTrue();
+        assertThat(sut.isHoliday(LocalDate.of(2021, 12, 24).toEpochDay())).isFalse();
+    }
+
+    @Test
+    public void testRegionalHoliday() {
+        HolidayIndex sut = compile(FixedHoliday.ofSpecificAreas(25, 12, "anyName", ANY_AREA));
+        assertThat(sut.isHoliday(LocalDate.of(2021, 12, 25).toEpochDay())).isFalse();
+        assertThat(sut.isHoliday(LocalDate.of(2021, 12, 25).toEpochDay(), ANY_AREA)).isTrue();
+        assertThat(sut.isHoliday(LocalDate.of(2021, 12, 25).toEpochDay(), ANOTHER_AREA)).isFalse();
+        assertThat(sut.isHoliday(LocalDate.of(2021, 12, 25).toEpochDay(), ANOTHER_AREA, ANY_AREA)).isTrue();
+        assertThat(sut.isHoliday(LocalDate.of(2021, 12, 25).toEpochDay(), (AdministrativeArea[]) null)).isFalse();
+    }
+
+    @Test
+    public void testFirstAndLastDayOfPeriod() {
+        HolidayIndex sut = compile(FixedHoliday.of(1, 1, "first"), FixedHoliday.of(31, 12, "last"));
+        assertThat(sut.isHoliday(PERIOD_START.toEpochDay())).isTrue();
+        assertThat(sut.isHoliday(PERIOD_END.toEpochDay())).isTrue();
+    }
+
+    @Test
+    public void testDatesOutsideOfPeriod() {
+        HolidayIndex sut = compile(FixedHoliday.of(1, 1, "anyName"));
+        assertThat(sut.isHoliday(PERIOD_START.minusDays(1).toEpochDay())).isFalse();
+        assertThat(sut.isHoliday(PERIOD_END.plusDays(1).toEpochDay())).isFalse();
+        assertThat(sut.isHoliday(LocalDate.of(2022, 1, 1).toEpochDay())).isFalse();
+    }
+
+    @Test
+    public void testMultiYearOccurrences() {
+        HolidayIndex sut = HolidayIndex.compile(PERIOD_START, LocalDate.of(2030, 12, 31),
+                Arrays.asList(FixedHoliday.of(25, 12, "anyName"), EasterSunday.standard()));
+        assertThat(sut.toMap()).hasSize(20);
+        assertThat(sut.toMap()).containsKeys(LocalDate.of(2021, 4, 4), LocalDate.of(2030, 12, 25));
+        assertThat(sut.isHoliday(LocalDate.of(2030, 4, 21).toEpochDay())).isTrue();
+    }
+
+    @Test
+    public void testAreasAreDefinedByAdministrativeAreas() {
+        Holiday holiday = new AbstractHoliday(null, "anyName", ANY_AREA) {
+            @Override
+            public LocalDate getDate(int year) {
+                return LocalDate.of(year, 12, 25);
+            }
+
+            @Override
+            public boolean isHolidayIn(AreaSelector selector) {
+                return true;
+            }
+        };
+        HolidayIndex sut = compile(holiday);
+        long christmas = LocalDate.of(2021, 12, 25).toEpochDay();
+        AreaSelector another = AreaSelector.of(ANOTHER_AREA);
+        assertThat(sut.workingDays(another).isHoliday(christmas)).isFalse();
+        assertThat(sut.occurrences(christmas, christmas, another)).isEmpty();
+        assertThat(sut.occurrences(christmas, christmas, AreaSelector.of(ANY_AREA))).hasSize(1);
+    }
+
+    @Test
+    public void testSlice() {
+        HolidayIndex index = HolidayIndex.compile(PERIOD_START, LocalDate.of(2030, 12, 31),
+                Arrays.asList(FixedHoliday.of(1, 1, "first"), FixedHoliday.ofSpecificAreas(25, 12, "anyName", ANY_AREA)));
+        HolidayIndex sut = index.slice(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31));
+        assertThat(sut.size()).isEqualTo(2);
+        assertThat(sut.isHoliday(LocalDate.of(2025, 1, 1).toEpochDay())).isTrue();
+        assertThat(sut.isHoliday(LocalDate.of(2025, 12, 25).toEpochDay(), ANY_AREA)).isTrue();
+        assertThat(sut.isHoliday(LocalDate.of(2026, 1, 1).toEpochDay())).isFalse();
+        assertThat(sut.toMap()).containsOnlyKeys(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 25));
+    }
+
+    @Test
+    public void testSingleRelevantAreaIsResolvedWithoutSelector() {
+        HolidayIndex sut = HolidayIndex.compile(PERIOD_START, PERIOD_END,
+                Arrays.asList(FixedHoliday.ofSpecificAreas(25, 12, "anyName", ANY_AREA)),
+                Weekends.DEFAULT.withArea(ANOTHER_AREA, Weekend.SUNDAY_ONLY));
+        AdministrativeArea standardArea = new SimpleArea("standard");
+        assertThat(sut.workingDays(ANY_AREA)).isSameAs(sut.workingDays(AreaSelector.of(ANY_AREA)));
+        assertThat(sut.workingDays(ANY_AREA, standardArea, null, ANY_AREA)).isSameAs(sut.workingDays(ANY_AREA));
+        assertThat(sut.workingDays(standardArea)).isSameAs(sut.workingDays());
+        assertThat(sut.workingDays((AdministrativeArea[]) null)).isSameAs(sut.workingDays());
+        assertThat(sut.workingDays(ANOTHER_AREA).weekend()).isEqualTo(Weekend.SUNDAY_ONLY.getMask());
+        // the standard weekend of the other area is added to the deviating one
+        assertThat(sut.workingDays(ANOTHER_AREA, standardArea)).isSameAs(sut.workingDays(AreaSelector.of(ANOTHER_AREA, standardArea)));
+        assertThat(sut.workingDays(ANOTHER_AREA, standardArea).weekend()).isEqualTo(Weekend.SATURDAY_SUNDAY.getMask());
+        assertThat(sut.workingDays(ANY_AREA, ANOTHER_AREA)).isSameAs(sut.workingDays(AreaSelector.of(ANOTHER_AREA, ANY_AREA)));
+    }
+
+    @Test
+    public void testCachedTablesAreBounded() {
+        List<Holiday> holidays = new ArrayList<>();
+        List<AdministrativeArea> areas = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            AdministrativeArea area = new SimpleArea("area" + i);
+            areas.add(area);
+            holidays.add(FixedHoliday.ofSpecificAreas(i + 1, 3, "anyName", area));
+        }
+        HolidayIndex sut = HolidayIndex.compile(PERIOD_START, PERIOD_END, holidays);
+        for (int combination = 0; combination < 1 << areas.size(); combination++) {
+            List<AdministrativeArea> selected = new ArrayList<>();
+            for (int i = 0; i < areas.size(); i++) {
+                if ((combination & 1 << i) != 0) {
+                    selected.add(areas.get(i));
+                }
+            }
+            WorkingDays table = sut.workingDays(AreaSelector.of(selected));
+            for (int i = 0; i < areas.size(); i++) {
+                long epochDay = LocalDate.of(2021, 3, i + 1).toEpochDay();
+                assertThat(table.isHoliday(epochDay)).isEqualTo(selected.contains(areas.get(i)));
+            }
+        }
+        assertThat(sut.cachedTables()).isEqualTo(HolidayIndex.MAX_TABLES);
+    }
+
+    @Test
+    public void testSelectorsOfIrrelevantAreasShareWorkingDays() {
+        HolidayIndex sut = compile(FixedHoliday.ofSpecificAreas(25, 12, "anyName", ANY_AREA));
+        assertThat(sut.workingDays(AreaSelector.of(ANOTHER_AREA))).isSameAs(sut.workingDays(AreaSelector.nationwide()));
+        assertThat(sut.workingDays(AreaSelector.of(ANY_AREA, ANOTHER_AREA))).isSameAs(sut.workingDays(ANY_AREA));
+    }
+
+    @Test
+    public void testMapHoldsLastAddedHolidayOnSameDay() {
+        Holiday first = FixedHoliday.of(25, 12, "first");
+        Holiday last = FixedHoliday.of(25, 12, "last");
+        HolidayIndex sut = compile(first, last);
+        assertThat(sut.toMap()).containsEntry(LocalDate.of(2021, 12, 25), last).hasSize(1);
+    }
+
+    @Test
+    public void testAllHolidaysKeptOnSameDay() {
+        Holiday nationwide = FixedHoliday.of(25, 12, "nationwide");
+        Holiday regional = FixedHoliday.ofSpecificAreas(25, 12, "regional", ANY_AREA);
+        Holiday other = FixedHoliday.of(26, 12, "other");
+        HolidayIndex sut = compile(other, nationwide, regional);
+        int offset = sut.offsetOf(LocalDate.of(2021, 12, 25).toEpochDay());
+        assertThat(sut.holidaysAt(offset)).containsExactly(nationwide, regional);
+        assertThat(sut.holidaysAt(offset + 1)).containsExactly(other);
+        assertThat(sut.holidaysAt(offset - 1)).isEmpty();
+        assertThat(sut.isHoliday(LocalDate.of(2021, 12, 25).toEpochDay())).isTrue();
+        assertThat(sut.isHoliday(LocalDate.of(2021, 12, 25).toEpochDay(), ANOTHER_AREA)).isTrue();
+    }
+
+    @Test
+    public void testRegionalHolidaysOfDifferentAreasOnSameDay() {
+        HolidayIndex sut = compile(FixedHoliday.ofSpecificAreas(1, 11, "any", ANY_AREA),
+                FixedHoliday.ofSpecificAreas(1, 11, "another", ANOTHER_AREA));
+        long epochDay = LocalDate.of(2021, 11, 1).toEpochDay();
+        assertThat(sut.isHoliday(epochDay, ANY_AREA)).isTrue();
+        assertThat(sut.isHoliday(epochDay, ANOTHER_AREA)).isTrue();
+        assertThat(sut.isHoliday(epochDay)).isFalse();
+    }
+
+    private static HolidayIndex compile(Holiday... holidays) {
+        return HolidayIndex.compile(PERIOD_START, PERIOD_END, Arrays.asList(holidays));
+    }
+
+    private static class SimpleArea implements AdministrativeArea {
+
+        private final String key;
+        private final String name;
+        SimpleArea(String prefix) {
+            this.key = prefix+"Key";
+            this.name = prefix+"Name";
+        }
+
+        @Override
+        public String getISO() {
+            return key;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+    }
+
+}
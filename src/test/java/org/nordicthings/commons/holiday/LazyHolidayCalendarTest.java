@@ -0,0 +1,122 @@
+package org.nordicthings.commons.holiday;
+
+import org.junit.jupiter.api.Test;
+import org.nordicthings.commons.holiday.german.GermanFederalState;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class LazyHolidayCalendarTest {
+
+    private static final HolidayCalendarConfigurer ANY_CONFIGURER = holidayCalendar -> {
+        holidayCalendar.addHoliday(FixedHoliday.of(1, 1, "newYear"));
+        holidayCalendar.addHoliday(EasterMonday.standard());
+        holidayCalendar.addHoliday(FixedHoliday.of(31, 12, "newYearsEve"));
+    };
+
+    @Test
+    public void testYearsAreBuiltOnFirstQuery() {
+        AtomicInteger builtYears = new AtomicInteger();
+        LazyHolidayCalendar sut = LazyHolidayCalendar.builder()
+                .forYears(1583, 2500)
+                .configurer(holidayCalendar -> {
+                    builtYears.incrementAndGet();
+                    ANY_CONFIGURER.configure(holidayCalendar);
+                })
+                .build();
+        assertThat(builtYears).hasValue(0);
+        assertThat(sut.isHoliday(LocalDate.of(2021, 4, 5))).isTrue();
+        assertThat(sut.isHoliday(LocalDate.of(2021, 4, 6))).isFalse();
+        assertThat(sut.isHoliday(LocalDate.of(2400, 1, 1))).isTrue();
+        assertThat(builtYears).hasValue(2);
+        assertThat(sut.getResidentYears()).isEqualTo(2);
+    }
+
+    @Test
+    public void testColdYearsAreEvicted() {
+        LazyHolidayCalendar sut = LazyHolidayCalendar.builder()
+                .forYears(2000, 2100)
+                .configurer(ANY_CONFIGURER)
+                .maximumResidentYears(3)
+                .build();
+        for (int year = 2000; year <= 2100; year++) {
+            assertThat(sut.isHoliday(LocalDate.of(year, 1, 1))).isTrue();
+        }
+        assertThat(sut.getResidentYears()).isEqualTo(3);
+        assertThat(sut.getStatistics().getEvictionCount()).isEqualTo(98);
+        assertThat(sut.isHoliday(LocalDate.of(2000, 12, 31))).isTrue();
+        assertThat(sut.getStatistics().getMissCount()).isEqualTo(102);
+    }
+
+    @Test
+    public void testDatesOutsideOfYears() {
+        LazyHolidayCalendar sut = LazyHolidayCalendar.builder()
+                .forYears(2020, 2022)
+                .configurer(ANY_CONFIGURER)
+                .build();
+        assertThat(sut.isHoliday(LocalDate.of(2019, 1, 1))).isFalse();
+        assertThat(sut.getHolidaysOn(LocalDate.of(2023, 1, 1))).isEmpty();
+        assertThat(sut.getResidentYears()).isZero();
+        assertThat(sut.isWorkingDay(LocalDate.of(2023, 1, 2))).isTrue();
+        assertThrows(IllegalArgumentException.class, () -> sut.getCalendar(2023));
+    }
+
+    @Test
+    public void testConfiguredWeekendOutsideOfYears() {
+        LazyHolidayCalendar sut = LazyHolidayCalendar.builder()
+                .forYears(2020, 2022)
+                .configurer(holidayCalendar -> {
+                    ANY_CONFIGURER.configure(holidayCalendar);
+                    holidayCalendar.setWeekend(GermanFederalState.BERLIN, Weekend.FRIDAY_SATURDAY);
+                })
+                .build();
+        LocalDate friday = LocalDate.of(2023, 1, 6);
+        LocalDate sunday = LocalDate.of(2019, 1, 6);
+        assertThat(sut.isWorkingDay(friday)).isTrue();
+        assertThat(sut.isWorkingDay(friday, GermanFederalState.BERLIN)).isFalse();
+        assertThat(sut.isWorkingDay(friday, AreaSelector.of(GermanFederalState.BERLIN))).isFalse();
+        assertThat(sut.isWorkingDay(sunday)).isFalse();
+        assertThat(sut.isWorkingDay(sunday, GermanFederalState.BERLIN)).isTrue();
+        assertThat(sut.isWorkingDay(sunday, GermanFederalState.BERLIN, GermanFederalState.BAYERN)).isFalse();
+    }
+
+    @Test
+    public void testWorkingDaysAcrossYears() {
+        LazyHolidayCalendar sut = LazyHolidayCalendar.builder()
+                .forYears(2020, 2022)
+                .configurer(ANY_CONFIGURER)
+                .build();
+        assertThat(sut.isWorkingDay(LocalDate.of(2021, 12, 31))).isFalse();
+        assertThat(sut.isWorkingDay(LocalDate.of(2021, 12, 30), AreaSelector.nationwide())).isTrue();
+        assertThat(sut.getNextWorkingDay(LocalDate.of(2021, 12, 31))).contains(LocalDate.of(2022, 1, 3));
+        assertThat(sut.getPreviousWorkingDay(LocalDate.of(2022, 1, 2))).contains(LocalDate.of(2021, 12, 30));
+        assertThat(sut.getNextWorkingDay(LocalDate.of(2020, 1, 1))).contains(LocalDate.of(2020, 1, 2));
+        assertThat(sut.getNextWorkingDay(LocalDate.of(2022, 12, 31))).isEmpty();
+        assertThat(sut.getHolidaysOn(LocalDate.of(2022, 4, 18))).extracting(Holiday::getName).containsExactly("EasterMonday");
+    }
+
+    @Test
+    public void testWorkingDaysOfDatesOutsideOfYears() {
+        LazyHolidayCalendar sut = LazyHolidayCalendar.builder()
+                .forYears(2020, 2022)
+                .configurer(ANY_CONFIGURER)
+                .build();
+        HolidayCalendar calendar = HolidayCalendar.builder().forYears(2020, 2022).configurer(ANY_CONFIGURER).build();
+        assertThat(sut.getNextWorkingDay(LocalDate.of(2019, 6, 1))).isEmpty().isEqualTo(calendar.getNextWorkingDay(LocalDate.of(2019, 6, 1)));
+        assertThat(sut.getPreviousWorkingDay(LocalDate.of(2023, 6, 1))).isEmpty().isEqualTo(calendar.getPreviousWorkingDay(LocalDate.of(2023, 6, 1)));
+        assertThat(sut.getNextWorkingDay(LocalDate.of(2023, 6, 1))).isEmpty();
+        assertThat(sut.getPreviousWorkingDay(LocalDate.of(2019, 6, 1))).isEmpty();
+    }
+
+    @Test
+    public void testBuilderValidation() {
+        assertThrows(IllegalStateException.class, () -> LazyHolidayCalendar.builder().configurer(ANY_CONFIGURER).build());
+        assertThrows(IllegalStateException.class, () -> LazyHolidayCalendar.builder().forYears(2022, 2021).configurer(ANY_CONFIGURER).build());
+        assertThrows(IllegalStateException.class, () -> LazyHolidayCalendar.builder().forYears(2021, 2022).build());
+        assertThrows(IllegalStateException.class, () -> LazyHolidayCalendar.builder().forYears(2021, 2022).configurer(ANY_CONFIGURER).maximumResidentYears(0).build());
+    }
+
+}
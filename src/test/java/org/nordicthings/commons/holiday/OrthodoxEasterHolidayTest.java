@@ -0,0 +1,44 @@
+package org.nordicthings.commons.holiday;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class OrthodoxEasterHolidayTest {
+
+    @Test
+    public void testFeasts() {
+        assertThat(OrthodoxEasterHoliday.goodFriday("Велики петак").getDate(2021)).isEqualTo(LocalDate.of(2021, 4, 30));
+        assertThat(OrthodoxEasterHoliday.easterSunday("Васкрс").getDate(2021)).isEqualTo(LocalDate.of(2021, 5, 2));
+        assertThat(OrthodoxEasterHoliday.easterMonday("Васкрсни понедељак").getDate(2021)).isEqualTo(LocalDate.of(2021, 5, 3));
+        assertThat(OrthodoxEasterHoliday.pentecost("Duminica Rusaliilor").getDate(2021)).isEqualTo(LocalDate.of(2021, 6, 20));
+        assertThat(OrthodoxEasterHoliday.whitMonday("Lunea Rusaliilor").getDate(2021)).isEqualTo(LocalDate.of(2021, 6, 21));
+        assertThat(OrthodoxEasterHoliday.whitMonday("any").getOffset()).isEqualTo(50);
+    }
+
+    @Test
+    public void testKeyAndName() {
+        OrthodoxEasterHoliday sut = OrthodoxEasterHoliday.ofOffset(-48, "anyKey", "Clean Monday");
+        assertThat(sut.getKey()).isEqualTo("anyKey");
+        assertThat(sut.getName()).isEqualTo("Clean Monday");
+        assertThat(sut.getDate(2021)).isEqualTo(LocalDate.of(2021, 3, 15));
+        assertThat(OrthodoxEasterHoliday.ofOffset(0, null).getKey()).isEqualTo(OrthodoxEasterHoliday.class.getCanonicalName());
+    }
+
+    @Test
+    public void testInvalidOffsetAndYear() {
+        assertThatThrownBy(() -> OrthodoxEasterHoliday.ofOffset(OrthodoxEasterHoliday.MINIMAL_OFFSET - 1, "any"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> OrthodoxEasterHoliday.ofOffset(OrthodoxEasterHoliday.MAXIMAL_OFFSET + 1, "any"))
+                .isInstanceOf(IllegalArgumentException.class);
+        OrthodoxEasterHoliday sut = OrthodoxEasterHoliday.ofOffset(OrthodoxEasterHoliday.MAXIMAL_OFFSET, "any");
+        assertThat(sut.getDate(sut.getMaximalYear()).getYear()).isEqualTo(sut.getMaximalYear());
+        assertThat(OrthodoxEasterHoliday.ofOffset(OrthodoxEasterHoliday.MINIMAL_OFFSET, "any").getDate(sut.getMinimalYear()).getYear())
+                .isEqualTo(sut.getMinimalYear());
+        assertThatThrownBy(() -> sut.getDate(sut.getMinimalYear() - 1)).isInstanceOf(HolidayException.class);
+    }
+
+}
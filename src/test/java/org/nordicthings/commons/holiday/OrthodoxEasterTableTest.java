@@ -0,0 +1,40 @@
+package org.nordicthings.commons.holiday;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OrthodoxEasterTableTest {
+
+    @Test
+    public void testKnownDates() {
+        assertThat(OrthodoxEasterTable.getDate(2010, 0)).isEqualTo(LocalDate.of(2010, 4, 4));
+        assertThat(OrthodoxEasterTable.getDate(2016, 0)).isEqualTo(LocalDate.of(2016, 5, 1));
+        assertThat(OrthodoxEasterTable.getDate(2021, 0)).isEqualTo(LocalDate.of(2021, 5, 2));
+        assertThat(OrthodoxEasterTable.getDate(2023, 0)).isEqualTo(LocalDate.of(2023, 4, 16));
+        assertThat(OrthodoxEasterTable.getDate(2024, 0)).isEqualTo(LocalDate.of(2024, 5, 5));
+        assertThat(OrthodoxEasterTable.getDate(2025, 0)).isEqualTo(LocalDate.of(2025, 4, 20));
+    }
+
+    @Test
+    public void testAllYearsOnSundayAfterSpring() {
+        for (int year = OrthodoxEasterTable.MINIMAL_YEAR; year <= OrthodoxEasterTable.MAXIMAL_YEAR; year++) {
+            LocalDate easter = OrthodoxEasterTable.getDate(year, 0);
+            assertThat(easter.getDayOfWeek()).isEqualTo(DayOfWeek.SUNDAY);
+            assertThat(easter).isAfterOrEqualTo(LocalDate.of(year, 4, 1)).isBeforeOrEqualTo(LocalDate.of(year, 6, 24));
+            assertThat(easter).isAfterOrEqualTo(EasterTable.getDate(year, 0));
+        }
+    }
+
+    @Test
+    public void testValidYears() {
+        assertThat(OrthodoxEasterTable.isValidYear(OrthodoxEasterTable.MINIMAL_YEAR)).isTrue();
+        assertThat(OrthodoxEasterTable.isValidYear(OrthodoxEasterTable.MAXIMAL_YEAR)).isTrue();
+        assertThat(OrthodoxEasterTable.isValidYear(OrthodoxEasterTable.MINIMAL_YEAR - 1)).isFalse();
+        assertThat(OrthodoxEasterTable.isValidYear(OrthodoxEasterTable.MAXIMAL_YEAR + 1)).isFalse();
+    }
+
+}
@@ -0,0 +1,46 @@
+package org.nordicthings.commons.holiday;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class WeekdayHolidayTest {
+
+    @Test
+    public void testOrdinal() {
+        assertThat(WeekdayHoliday.ofOrdinal(-1, DayOfWeek.MONDAY, 5, null, "Memorial Day").getDate(2021))
+                .isEqualTo(LocalDate.of(2021, 5, 31));
+        assertThat(WeekdayHoliday.ofOrdinal(4, DayOfWeek.THURSDAY, 11, null, "Thanksgiving").getDate(2021))
+                .isEqualTo(LocalDate.of(2021, 11, 25));
+        assertThatThrownBy(() -> WeekdayHoliday.ofOrdinal(0, DayOfWeek.MONDAY, 5, null, "any"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testFifthDayOfWeekOnlyInMonthsWithFiveOfThem() {
+        // February 2021 has four mondays, February 2016 has five
+        WeekdayHoliday sut = WeekdayHoliday.ofOrdinal(5, DayOfWeek.MONDAY, 2, null, "any");
+        assertThat(sut.isValidYear(2021)).isFalse();
+        assertThatThrownBy(() -> sut.getDate(2021)).isInstanceOf(HolidayException.class);
+        assertThat(sut.isValidYear(2016)).isTrue();
+        assertThat(sut.getDate(2016)).isEqualTo(LocalDate.of(2016, 2, 29));
+        WeekdayHoliday lastButFour = WeekdayHoliday.ofOrdinal(-5, DayOfWeek.MONDAY, 2, null, "any");
+        assertThat(lastButFour.isValidYear(2021)).isFalse();
+        assertThat(lastButFour.getDate(2016)).isEqualTo(LocalDate.of(2016, 2, 1));
+    }
+
+    @Test
+    public void testBeforeAndAfter() {
+        WeekdayHoliday prayer = WeekdayHoliday.ofBefore(DayOfWeek.WEDNESDAY, 23, 11, null, "Buß- und Bettag");
+        for (int year = 1995; year < 2050; year++) {
+            assertThat(prayer.getDate(year)).isEqualTo(DayOfPrayerAndRepentance.standard().getDate(year));
+        }
+        assertThat(WeekdayHoliday.ofAfter(DayOfWeek.SATURDAY, 19, 6, null, "Midsommardagen").getDate(2021))
+                .isEqualTo(LocalDate.of(2021, 6, 26));
+    }
+
+}
@@ -0,0 +1,46 @@
+package org.nordicthings.commons.holiday;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class WeekendTest {
+
+    // Friday
+    private static final LocalDate FRIDAY = LocalDate.of(2021, 9, 17);
+
+    @Test
+    public void testDays() {
+        assertThat(Weekend.SATURDAY_SUNDAY.getDays()).containsExactly(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+        assertThat(Weekend.FRIDAY_SATURDAY.contains(DayOfWeek.FRIDAY)).isTrue();
+        assertThat(Weekend.FRIDAY_SATURDAY.contains(DayOfWeek.SUNDAY)).isFalse();
+        assertThat(Weekend.NONE.getDays()).isEmpty();
+        assertThat(Weekend.of()).isSameAs(Weekend.NONE);
+        assertThat(Weekend.of(DayOfWeek.SUNDAY, DayOfWeek.SATURDAY)).isSameAs(Weekend.SATURDAY_SUNDAY);
+        assertThrows(IllegalArgumentException.class, () -> Weekend.of(DayOfWeek.SUNDAY, null));
+    }
+
+    @Test
+    public void testIsWeekend() {
+        assertThat(Weekend.FRIDAY_SATURDAY.isWeekend(FRIDAY)).isTrue();
+        assertThat(Weekend.FRIDAY_SATURDAY.isWeekend(FRIDAY.plusDays(2))).isFalse();
+        assertThat(Weekend.SUNDAY_ONLY.isWeekend(FRIDAY.plusDays(1).toEpochDay())).isFalse();
+        assertThat(Weekend.SUNDAY_ONLY.isWeekend(FRIDAY.plusDays(2).toEpochDay())).isTrue();
+        for (LocalDate date = LocalDate.of(1969, 12, 1); date.getYear() < 1971; date = date.plusDays(1)) {
+            assertThat(Weekend.SATURDAY_SUNDAY.isWeekend(date)).isEqualTo(HolidayCalendar.isWeekend(date));
+        }
+        assertThrows(IllegalArgumentException.class, () -> Weekend.NONE.isWeekend(null));
+    }
+
+    @Test
+    public void testMask() {
+        assertThat(Weekend.ofMask(Weekend.FRIDAY_SATURDAY.getMask())).isSameAs(Weekend.FRIDAY_SATURDAY);
+        assertThat(Weekend.of(DayOfWeek.MONDAY).getMask()).isEqualTo(1);
+        assertThrows(IllegalArgumentException.class, () -> Weekend.ofMask(128));
+    }
+
+}
@@ -0,0 +1,94 @@
+package org.nordicthings.commons.holiday;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WorkingDaysTest {
+
+    // Wednesday, 2021-09-01
+    private static final LocalDate PERIOD_START = LocalDate.of(2021, 9, 1);
+    private static final int LENGTH = 30;
+    // Friday, 2021-09-17
+    private static final int HOLIDAY = 16;
+
+    @Test
+    public void testIsHoliday() {
+        WorkingDays sut = compile();
+        assertThat(sut.isHoliday(PERIOD_START.toEpochDay() + HOLIDAY)).isTrue();
+        assertThat(sut.isHoliday(PERIOD_START.toEpochDay() + HOLIDAY - 1)).isFalse();
+        assertThat(sut.isHoliday(PERIOD_START.toEpochDay() - 1)).isFalse();
+        assertThat(sut.isHoliday(PERIOD_START.toEpochDay() + LENGTH)).isFalse();
+    }
+
+    @Test
+    public void testIsWorkingDay() {
+        WorkingDays sut = compile();
+        assertThat(sut.isWorkingDay(PERIOD_START.toEpochDay())).isTrue();
+        assertThat(sut.isWorkingDay(PERIOD_START.toEpochDay() + HOLIDAY)).isFalse();
+        assertThat(sut.isWorkingDay(LocalDate.of(2021, 9, 18).toEpochDay())).isFalse();
+        assertThat(sut.isWorkingDay(LocalDate.of(2021, 8, 31).toEpochDay())).isTrue();
+        assertThat(sut.isWorkingDay(LocalDate.of(2021, 8, 29).toEpochDay())).isFalse();
+    }
+
+    @Test
+    public void testCount() {
+        WorkingDays sut = compile();
+        assertThat(sut.count(0, LENGTH - 1)).isEqualTo(21);
+        assertThat(sut.count(HOLIDAY, HOLIDAY)).isZero();
+        assertThat(sut.count(0, 0)).isOne();
+    }
+
+    @Test
+    public void testShift() {
+        WorkingDays sut = compile();
+        assertThat(sut.shift(HOLIDAY - 1, 0)).isEqualTo(HOLIDAY - 1);
+        assertThat(sut.shift(HOLIDAY - 1, 1)).isEqualTo(HOLIDAY + 3);
+        assertThat(sut.shift(HOLIDAY + 3, -1)).isEqualTo(HOLIDAY - 1);
+        assertThat(sut.shift(HOLIDAY, 1)).isEqualTo(HOLIDAY + 3);
+        assertThat(sut.shift(HOLIDAY, -1)).isEqualTo(HOLIDAY - 1);
+        assertThat(sut.shift(0, -1)).isEqualTo(-1);
+        assertThat(sut.shift(0, 21)).isEqualTo(-1);
+        assertThat(sut.shift(0, 20)).isEqualTo(LENGTH - 1);
+    }
+
+    @Test
+    public void testNextAndPrevious() {
+        WorkingDays sut = compile();
+        assertThat(sut.next(HOLIDAY - 1)).isEqualTo(HOLIDAY - 1);
+        assertThat(sut.next(HOLIDAY)).isEqualTo(HOLIDAY + 3);
+        assertThat(sut.previous(HOLIDAY)).isEqualTo(HOLIDAY - 1);
+        assertThat(sut.previous(HOLIDAY + 2)).isEqualTo(HOLIDAY - 1);
+        assertThat(sut.previous(0)).isZero();
+        assertThat(sut.next(LENGTH - 1)).isEqualTo(LENGTH - 1);
+    }
+
+    @Test
+    public void testIsWeekend() {
+        assertThat(WorkingDays.isWeekend(LocalDate.of(2021, 9, 17).toEpochDay())).isFalse();
+        assertThat(WorkingDays.isWeekend(LocalDate.of(2021, 9, 18).toEpochDay())).isTrue();
+        assertThat(WorkingDays.isWeekend(LocalDate.of(2021, 9, 19).toEpochDay())).isTrue();
+        assertThat(WorkingDays.isWeekend(LocalDate.of(1969, 12, 28).toEpochDay())).isTrue();
+        assertThat(WorkingDays.isWeekend(LocalDate.of(1969, 12, 29).toEpochDay())).isFalse();
+    }
+
+    @Test
+    public void testWeekend() {
+        long[] holidays = new long[1];
+        WorkingDays sut = WorkingDays.compile(PERIOD_START.toEpochDay(), LENGTH, holidays, Weekend.FRIDAY_SATURDAY.getMask());
+        assertThat(sut.isWorkingDay(LocalDate.of(2021, 9, 17).toEpochDay())).isFalse();
+        assertThat(sut.isWorkingDay(LocalDate.of(2021, 9, 19).toEpochDay())).isTrue();
+        assertThat(sut.isWorkingDay(LocalDate.of(2021, 8, 27).toEpochDay())).isFalse();
+        assertThat(sut.next(16)).isEqualTo(18);
+        assertThat(sut.count(0, LENGTH - 1)).isEqualTo(22);
+    }
+
+    private static WorkingDays compile() {
+        long[] holidays = new long[1];
+        holidays[0] |= 1L << HOLIDAY;
+        return WorkingDays.compile(PERIOD_START.toEpochDay(), LENGTH, holidays);
+    }
+
+}
@@ -0,0 +1,30 @@
+package org.nordicthings.commons.holiday;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class YearRestrictedHolidayTest {
+
+    @Test
+    public void testRestrictedYears() {
+        Holiday sut = new YearRestrictedHoliday(FixedHoliday.of(8, 3, "Frauentag"), 2019, Integer.MAX_VALUE);
+        assertThat(sut.getMinimalYear()).isEqualTo(2019);
+        assertThat(sut.getMaximalYear()).isEqualTo(FixedHoliday.of(8, 3, "any").getMaximalYear());
+        assertThat(sut.isValidYear(2018)).isFalse();
+        assertThat(sut.getDate(2019)).isEqualTo(LocalDate.of(2019, 3, 8));
+        assertThat(sut.getName()).isEqualTo("Frauentag");
+        assertThatThrownBy(() -> sut.getDate(2018)).isInstanceOf(HolidayException.class);
+    }
+
+    @Test
+    public void testBoundsOfRestrictedHoliday() {
+        Holiday sut = new YearRestrictedHoliday(EasterSunday.standard(), 1000, 9999);
+        assertThat(sut.getMinimalYear()).isEqualTo(EasterSunday.standard().getMinimalYear());
+        assertThat(sut.getMaximalYear()).isEqualTo(EasterSunday.standard().getMaximalYear());
+    }
+
+}
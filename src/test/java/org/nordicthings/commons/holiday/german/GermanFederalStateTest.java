@@ -22,4 +22,13 @@ public class GermanFederalStateTest {
         assertThat(GermanFederalState.getByISO(null)).isNull();
     }
 
+    @Test
+    public void shouldFindEveryStateInRegistry() {
+        for (GermanFederalState state : GermanFederalState.values()) {
+            assertThat(GermanFederalState.getByISO(state.getISO())).isSameAs(state);
+            assertThat(GermanFederalState.registry().getByName(state.getName())).isSameAs(state);
+        }
+        assertThat(GermanFederalState.registry().getAreas()).containsExactly(GermanFederalState.values());
+    }
+
 }
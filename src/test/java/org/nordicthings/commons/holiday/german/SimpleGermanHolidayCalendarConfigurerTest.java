@@ -1,6 +1,7 @@
 package org.nordicthings.commons.holiday.german;
 
 import org.nordicthings.commons.holiday.HolidayCalendar;
+import org.nordicthings.commons.holiday.HolidayCalendarCache;
 import org.junit.jupiter.api.Test;
 import org.nordicthings.commons.holiday.german.GermanFederalState;
 import org.nordicthings.commons.holiday.german.SimpleGermanHolidayCalendarConfigurer;
@@ -21,4 +22,11 @@ public class SimpleGermanHolidayCalendarConfigurerTest {
         assertThat(calendar.isHoliday(LocalDate.of(2021,10,31),GermanFederalState.BAYERN)).isFalse();
     }
 
+    @Test
+    public void testCachedByEquality() {
+        HolidayCalendarCache cache = HolidayCalendarCache.builder().build();
+        HolidayCalendar calendar = cache.get(new SimpleGermanHolidayCalendarConfigurer(), 2021);
+        assertThat(cache.get(new SimpleGermanHolidayCalendarConfigurer(), 2021)).isSameAs(calendar);
+    }
+
 }